@@ -2,12 +2,18 @@ package com.mortgage.mortgageportal;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 
 @SpringBootApplication
 public class MortgageportalApplication {
 
+	// Startup steps kept for /actuator/startup; the full context records a few thousand
+	private static final int STARTUP_STEPS = 8192;
+
 	public static void main(String[] args) {
-		SpringApplication.run(MortgageportalApplication.class, args);
+		SpringApplication application = new SpringApplication(MortgageportalApplication.class);
+		application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEPS));
+		application.run(args);
 	}
 
 }
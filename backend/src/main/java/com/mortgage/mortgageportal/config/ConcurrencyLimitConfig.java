@@ -0,0 +1,65 @@
+package com.mortgage.mortgageportal.config;
+
+import com.mortgage.mortgageportal.limiter.AimdLimiter;
+import com.mortgage.mortgageportal.limiter.ConcurrencyLimitFilter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "api.concurrency.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public AimdLimiter cheapRequestLimiter(
+            @Value("${api.concurrency.cheap.initial-limit:50}") int initialLimit,
+            @Value("${api.concurrency.cheap.min-limit:10}") int minLimit,
+            @Value("${api.concurrency.cheap.max-limit:400}") int maxLimit,
+            @Value("${api.concurrency.cheap.latency-target-ms:250}") long latencyTargetMs,
+            MeterRegistry meterRegistry) {
+        return register(new AimdLimiter("cheap", initialLimit, minLimit, maxLimit, latencyTargetMs, 0.9), meterRegistry);
+    }
+
+    @Bean
+    public AimdLimiter expensiveRequestLimiter(
+            @Value("${api.concurrency.expensive.initial-limit:8}") int initialLimit,
+            @Value("${api.concurrency.expensive.min-limit:2}") int minLimit,
+            @Value("${api.concurrency.expensive.max-limit:50}") int maxLimit,
+            @Value("${api.concurrency.expensive.latency-target-ms:2000}") long latencyTargetMs,
+            MeterRegistry meterRegistry) {
+        return register(new AimdLimiter("expensive", initialLimit, minLimit, maxLimit, latencyTargetMs, 0.8), meterRegistry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            AimdLimiter cheapRequestLimiter,
+            AimdLimiter expensiveRequestLimiter,
+            @Value("${api.concurrency.retry-after-seconds:1}") int retryAfterSeconds) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+                new ConcurrencyLimitFilter(cheapRequestLimiter, expensiveRequestLimiter, retryAfterSeconds));
+        registration.addUrlPatterns("/api/v1/applications", "/api/v1/applications/*", "/api/v1/documents/*",
+                "/api/v1/quotes", "/api/v1/quotes/*", "/api/v1/reports/*");
+        // Ahead of the Spring Security chain so shed requests never pay for token verification
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 10);
+        return registration;
+    }
+
+    private static AimdLimiter register(AimdLimiter limiter, MeterRegistry registry) {
+        Gauge.builder("api.concurrency.limit", limiter, AimdLimiter::getLimit)
+                .tag("budget", limiter.getName())
+                .register(registry);
+        Gauge.builder("api.concurrency.in_flight", limiter, AimdLimiter::getInFlight)
+                .tag("budget", limiter.getName())
+                .register(registry);
+        FunctionCounter.builder("api.concurrency.rejected", limiter, AimdLimiter::getRejectedCount)
+                .tag("budget", limiter.getName())
+                .register(registry);
+        return limiter;
+    }
+}
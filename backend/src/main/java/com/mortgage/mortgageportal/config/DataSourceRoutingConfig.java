@@ -0,0 +1,79 @@
+package com.mortgage.mortgageportal.config;
+
+import com.mortgage.mortgageportal.datasource.ReadWriteRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Primary/replica pools with transaction-aware routing, enabled when datasource.replica.jdbc-url is set.
+ * The primary keeps the usual spring.datasource.* and spring.datasource.hikari.* settings; the replica pool is sized
+ * under datasource.replica.*. Both are Hikari beans, so each reports its own hikaricp.* metrics tagged by pool name.
+ * Mark read paths @Transactional(readOnly = true) to send them to the replica; Spring Data repository reads
+ * already are.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.jdbc-url")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            @Value("${datasource.routing.pin-window:PT5S}") Duration pinWindow,
+            @Value("${datasource.routing.max-pinned-users:100000}") long maxPinnedUsers) {
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource, pinWindow, maxPinnedUsers);
+    }
+
+    // What JPA, JdbcTemplate and Flyway see. The lazy proxy defers the real connection until the first statement,
+    // by which time the transaction's read-only flag is known.
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+    }
+
+    @Bean
+    public MeterBinder dataSourceRoutingMetrics(ReadWriteRoutingDataSource routing) {
+        return registry -> {
+            for (ReadWriteRoutingDataSource.Target target : ReadWriteRoutingDataSource.Target.values()) {
+                FunctionCounter.builder("datasource.routing", routing, r -> r.getRouteCount(target))
+                        .tag("target", target.name().toLowerCase())
+                        .description("Connections routed to each pool")
+                        .register(registry);
+            }
+            FunctionCounter.builder("datasource.routing.pinned_reads", routing, ReadWriteRoutingDataSource::getPinnedReadCount)
+                    .description("Read-only work kept on the primary because the user wrote recently")
+                    .register(registry);
+        };
+    }
+}
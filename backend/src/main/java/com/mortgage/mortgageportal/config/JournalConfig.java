@@ -0,0 +1,41 @@
+package com.mortgage.mortgageportal.config;
+
+import com.mortgage.mortgageportal.journal.DurableStateJournal;
+import com.mortgage.mortgageportal.journal.MappedJournal;
+import com.mortgage.mortgageportal.journal.StateJournal;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+/**
+ * Optional durability for the in-memory stores. With journal.enabled=true every change is journaled to
+ * journal.directory and the stores are rebuilt from it on startup (see JournalLifecycle); otherwise changes live
+ * only in memory, as before.
+ */
+@Configuration
+public class JournalConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "journal.enabled", havingValue = "true")
+    public MappedJournal mappedJournal(@Value("${journal.directory:data/journal}") Path directory,
+                                       @Value("${journal.segment-size:64MB}") DataSize segmentSize,
+                                       @Value("${journal.fsync:true}") boolean fsync) {
+        return new MappedJournal(directory, Math.toIntExact(segmentSize.toBytes()), fsync);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "journal.enabled", havingValue = "true")
+    public StateJournal durableStateJournal(MappedJournal mappedJournal) {
+        return new DurableStateJournal(mappedJournal);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "journal.enabled", havingValue = "false", matchIfMissing = true)
+    public StateJournal stateJournal() {
+        return StateJournal.NOOP;
+    }
+}
@@ -1,12 +1,17 @@
 package com.mortgage.mortgageportal.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
@@ -18,6 +23,9 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -26,6 +34,32 @@ public class JwtAuthFilter extends OncePerRequestFilter {
     // For demo: use a static secret. In production, use a secure secret!
     private static final String SECRET = "my-very-secret-key-for-jwt-signing-1234567890";
 
+    // Tokens without an exp claim are still re-verified at least this often
+    private static final Duration MAX_CACHE_TTL = Duration.ofMinutes(15);
+
+    // Key derivation and parser construction are the expensive part of setup, so do them once
+    private final JwtParser parser = Jwts.parser()
+            .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+            .build();
+
+    // SHA-256 of the raw token -> resolved Authentication; null when caching is disabled
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    public JwtAuthFilter(@Value("${security.jwt.cache-size:10000}") int cacheSize) {
+        this.verifiedTokens = cacheSize <= 0 ? null : Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * The verified-token cache, for metrics; null when caching is disabled.
+     */
+    public Cache<String, ?> getVerifiedTokenCache() {
+        return verifiedTokens;
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
@@ -33,17 +67,7 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         if (StringUtils.hasText(header) && header.startsWith("Bearer ")) {
             String token = header.substring(7);
             try {
-                Claims claims = Jwts.parser()
-                        .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
-                        .build()
-                        .parseSignedClaims(token)
-                        .getPayload();
-                String username = claims.getSubject();
-                List<String> roles = claims.get("roles", List.class);
-                Collection<GrantedAuthority> authorities = roles == null ? List.of() :
-                        roles.stream().map(r -> new SimpleGrantedAuthority("ROLE_" + r)).collect(Collectors.toList());
-                Authentication auth = new UsernamePasswordAuthenticationToken(username, null, authorities);
-                SecurityContextHolder.getContext().setAuthentication(auth);
+                SecurityContextHolder.getContext().setAuthentication(authenticate(token));
             } catch (Exception e) {
                 // Invalid token, clear context
                 SecurityContextHolder.clearContext();
@@ -51,4 +75,63 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         }
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    private Authentication authenticate(String token) {
+        if (verifiedTokens == null) {
+            return verify(token).authentication();
+        }
+        // The digest covers the signature, so a hit means these exact bytes were already verified
+        String digest = digest(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null && cached.expiresAtMillis() > System.currentTimeMillis()) {
+            return cached.authentication();
+        }
+        VerifiedToken verified = verify(token);
+        verifiedTokens.put(digest, verified);
+        return verified.authentication();
+    }
+
+    private VerifiedToken verify(String token) {
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        String username = claims.getSubject();
+        List<String> roles = claims.get("roles", List.class);
+        Collection<GrantedAuthority> authorities = roles == null ? List.of() :
+                roles.stream().map(r -> new SimpleGrantedAuthority("ROLE_" + r)).collect(Collectors.toList());
+        Authentication auth = new UsernamePasswordAuthenticationToken(username, null, authorities);
+        Date exp = claims.getExpiration();
+        long maxExpiry = System.currentTimeMillis() + MAX_CACHE_TTL.toMillis();
+        long expiresAt = exp == null ? maxExpiry : Math.min(exp.getTime(), maxExpiry);
+        return new VerifiedToken(auth, expiresAt);
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record VerifiedToken(Authentication authentication, long expiresAtMillis) {
+    }
+
+    // Each entry lives until its own token expires, capped by MAX_CACHE_TTL
+    private static final class TokenExpiry implements Expiry<String, VerifiedToken> {
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+            return Duration.ofMillis(Math.max(remainingMillis, 0)).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.mortgage.mortgageportal.config;
+
+import com.mortgage.mortgageportal.logging.LogDropCounters;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class LoggingMetricsConfig {
+
+    @Bean
+    public MeterBinder loggingDropMetrics() {
+        return registry -> {
+            FunctionCounter.builder("logging.events.dropped", LogDropCounters.class, c -> LogDropCounters.rateLimitedCount())
+                    .tag("reason", "rate_limited")
+                    .description("Log events denied by the per-logger rate limit")
+                    .register(registry);
+            FunctionCounter.builder("logging.events.dropped", LogDropCounters.class, c -> LogDropCounters.queueFullCount())
+                    .tag("reason", "queue_full")
+                    .description("Log events discarded because the async appender queue was full")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,31 @@
+package com.mortgage.mortgageportal.config;
+
+import com.mortgage.mortgageportal.enums.ApplicationStatus;
+import com.mortgage.mortgageportal.metrics.PipelineStats;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class PipelineMetricsConfig {
+
+    @Bean
+    public MeterBinder pipelineMetrics(PipelineStats pipelineStats) {
+        return registry -> {
+            for (ApplicationStatus status : ApplicationStatus.values()) {
+                Gauge.builder("pipeline.applications", pipelineStats, stats -> stats.getCount(status))
+                        .tag("status", status.name())
+                        .description("Applications currently in each status")
+                        .register(registry);
+            }
+            FunctionCounter.builder("pipeline.applications.created", pipelineStats, PipelineStats::getCreatedCount)
+                    .description("Applications submitted since startup")
+                    .register(registry);
+            FunctionCounter.builder("pipeline.decisions", pipelineStats, PipelineStats::getDecidedCount)
+                    .description("Decisions recorded since startup")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,59 @@
+package com.mortgage.mortgageportal.config;
+
+import com.mortgage.mortgageportal.entities.Application;
+import com.mortgage.mortgageportal.entities.Decision;
+import com.mortgage.mortgageportal.entities.Document;
+import com.mortgage.mortgageportal.journal.JournaledStore;
+import com.mortgage.mortgageportal.pricing.AmortizationEngine;
+import com.mortgage.mortgageportal.service.impl.ApplicationStreamServiceImpl;
+import com.mortgage.mortgageportal.service.impl.UserServiceImpl;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class StoreMetricsConfig {
+
+    @Bean
+    public MeterBinder storeSizeMetrics(JournaledStore<Application> applications,
+                                        JournaledStore<Document> documents,
+                                        JournaledStore<Decision> decisions) {
+        return registry -> {
+            registerSize(registry, "applications", applications);
+            registerSize(registry, "documents", documents);
+            registerSize(registry, "decisions", decisions);
+        };
+    }
+
+    // Hit/miss/eviction counters and size per cache, tagged cache=<name>
+    @Bean
+    public MeterBinder cacheMetrics(JwtAuthFilter jwtAuthFilter,
+                                    UserServiceImpl userService,
+                                    AmortizationEngine amortizationEngine) {
+        return registry -> {
+            if (jwtAuthFilter.getVerifiedTokenCache() != null) {
+                CaffeineCacheMetrics.monitor(registry, jwtAuthFilter.getVerifiedTokenCache(), "jwt.verified_tokens");
+            }
+            CaffeineCacheMetrics.monitor(registry, userService.getUserCache(), "users.by_email");
+            CaffeineCacheMetrics.monitor(registry, amortizationEngine.getQuoteCache(), "pricing.quotes");
+        };
+    }
+
+    // Open SSE connections, status and per-application streams together
+    @Bean
+    public MeterBinder streamSubscriberMetrics(ApplicationStreamServiceImpl streamService) {
+        return registry -> Gauge.builder("sse.subscribers", streamService, ApplicationStreamServiceImpl::getSubscriberCount)
+                .description("Open server-sent event subscriptions")
+                .register(registry);
+    }
+
+    private static void registerSize(MeterRegistry registry, String store, JournaledStore<?> records) {
+        Gauge.builder("store.records", records, JournaledStore::size)
+                .tag("store", store)
+                .description("Records held by each in-memory store")
+                .register(registry);
+    }
+}
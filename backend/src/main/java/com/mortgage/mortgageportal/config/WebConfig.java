@@ -0,0 +1,23 @@
+package com.mortgage.mortgageportal.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mortgage.mortgageportal.serialization.JsonStreamBodyHttpMessageConverter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // Ahead of the general Jackson converter so streamed list bodies bypass bean serialization
+        converters.add(0, new JsonStreamBodyHttpMessageConverter(objectMapper));
+    }
+}
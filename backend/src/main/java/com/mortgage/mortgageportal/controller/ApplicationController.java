@@ -1,67 +1,177 @@
 package com.mortgage.mortgageportal.controller;
 
 import com.mortgage.mortgageportal.dto.*;
-import com.mortgage.mortgageportal.dto.DocumentResponse;
 import com.mortgage.mortgageportal.entities.Application;
 import com.mortgage.mortgageportal.entities.Decision;
+import com.mortgage.mortgageportal.entities.Document;
 import com.mortgage.mortgageportal.entities.User;
 import com.mortgage.mortgageportal.enums.ApplicationStatus;
 import com.mortgage.mortgageportal.enums.UserRole;
+import com.mortgage.mortgageportal.exception.BadRequestException;
+import com.mortgage.mortgageportal.idempotency.IdempotencyStore;
 import com.mortgage.mortgageportal.mapper.ApplicationMapper;
 import com.mortgage.mortgageportal.mapper.DecisionMapper;
-import com.mortgage.mortgageportal.mapper.DocumentMapper;
+import com.mortgage.mortgageportal.serialization.FieldMask;
+import com.mortgage.mortgageportal.serialization.JsonArrayStream;
+import com.mortgage.mortgageportal.serialization.JsonObjectBody;
+import com.mortgage.mortgageportal.serialization.JsonPageStream;
+import com.mortgage.mortgageportal.serialization.ResponseRowWriters;
 import com.mortgage.mortgageportal.service.ApplicationService;
+import com.mortgage.mortgageportal.service.ApplicationStreamService;
 import com.mortgage.mortgageportal.service.DecisionService;
 import com.mortgage.mortgageportal.service.DocumentService;
+import com.mortgage.mortgageportal.service.UnderwritingService;
 import com.mortgage.mortgageportal.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/v1/applications")
 @RequiredArgsConstructor
 public class ApplicationController {
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_RESULTS = 50;
+
     private final ApplicationService applicationService;
     private final DecisionService decisionService;
     private final DocumentService documentService;
     private final UserService userService;
+    private final ApplicationStreamService applicationStreamService;
+    private final IdempotencyStore idempotencyStore;
+    private final UnderwritingService underwritingService;
 
     @PostMapping
     @PreAuthorize("hasRole('APPLICANT')")
-    public ResponseEntity<ApplicationResponseDTO> createApplication(@Valid @RequestBody ApplicationRequestDTO request, Authentication auth) {
+    public ResponseEntity<ApplicationResponseDTO> createApplication(@Valid @RequestBody ApplicationRequestDTO request,
+                                                                    @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+                                                                    Authentication auth) {
+        return idempotencyStore.execute(idempotencyKey, "POST /applications " + auth.getName(), request, () -> {
+            User user = userService.getCurrentUser(auth);
+            Application app = applicationService.createApplication(request, user);
+            underwritingService.assess(app);
+            return ResponseEntity.ok(ApplicationMapper.toResponseDTO(app));
+        });
+    }
+
+    @GetMapping("/mine")
+    @PreAuthorize("hasRole('APPLICANT')")
+    public ResponseEntity<JsonPageStream<Application>> listMyApplications(
+            @RequestParam(required = false) ApplicationStatus status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String fields,
+            Authentication auth) {
+        long mask = FieldMask.APPLICATION.parse(fields);
         User user = userService.getCurrentUser(auth);
-        Application app = applicationService.createApplication(request, user);
-        return ResponseEntity.ok(ApplicationMapper.toResponseDTO(app));
+        PageRequest pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+        Page<Application> apps = applicationService.listApplicationsByUser(user.getId(), status, pageable);
+        return ResponseEntity.ok(ResponseRowWriters.applicationPage(apps, mask));
+    }
+
+    @GetMapping("/search")
+    @PreAuthorize("hasRole('OFFICER')")
+    public ResponseEntity<JsonArrayStream<Application>> searchApplications(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(required = false) String fields) {
+        if (!StringUtils.hasText(query)) {
+            throw new BadRequestException("Search query must not be blank");
+        }
+        long mask = FieldMask.APPLICATION.parse(fields);
+        List<Application> apps = applicationService.searchApplications(query, Math.min(Math.max(limit, 1), MAX_SEARCH_RESULTS));
+        return ResponseEntity.ok(ResponseRowWriters.applications(apps, mask));
+    }
+
+    @PostMapping("/batch")
+    @PreAuthorize("hasAnyRole('APPLICANT','OFFICER')")
+    public ResponseEntity<BatchApplicationResponseDTO> getApplicationsBatch(@Valid @RequestBody BatchApplicationRequestDTO request, Authentication auth) {
+        User user = userService.getCurrentUser(auth);
+        Set<UUID> ids = new LinkedHashSet<>(request.getIds());
+        Map<UUID, Application> found = applicationService.getApplicationsByIds(ids, user);
+        
+        List<ApplicationResponseDTO> applications = new ArrayList<>(found.size());
+        List<UUID> missingIds = new ArrayList<>();
+        for (UUID id : ids) {
+            Application app = found.get(id);
+            if (app != null) {
+                applications.add(ApplicationMapper.toResponseDTO(app));
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return ResponseEntity.ok(BatchApplicationResponseDTO.builder()
+                .applications(applications)
+                .missingIds(missingIds)
+                .build());
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('OFFICER')")
+    public SseEmitter streamApplications(@RequestParam(required = false) ApplicationStatus status) {
+        return applicationStreamService.subscribeToStatus(status);
+    }
+
+    @GetMapping(value = "/{id}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAnyRole('APPLICANT','OFFICER')")
+    public SseEmitter streamApplication(@PathVariable UUID id, Authentication auth) {
+        User user = userService.getCurrentUser(auth);
+        // Enforces existence and ownership before the stream is opened
+        applicationService.getApplicationById(id, user);
+        return applicationStreamService.subscribeToApplication(id);
     }
 
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('APPLICANT','OFFICER')")
-    public ResponseEntity<ApplicationResponseDTO> getApplication(@PathVariable UUID id, Authentication auth) {
+    public ResponseEntity<JsonObjectBody<Application>> getApplication(@PathVariable UUID id,
+                                                                      @RequestParam(required = false) String fields,
+                                                                      Authentication auth) {
+        long mask = FieldMask.APPLICATION.parse(fields);
         User user = userService.getCurrentUser(auth);
         Application app = applicationService.getApplicationById(id, user);
-        return ResponseEntity.ok(ApplicationMapper.toResponseDTO(app));
+        return ResponseEntity.ok(ResponseRowWriters.application(app, mask));
     }
 
     @GetMapping
     @PreAuthorize("hasRole('OFFICER')")
-    public ResponseEntity<List<ApplicationResponseDTO>> listApplications(
+    public ResponseEntity<JsonArrayStream<Application>> listApplications(
             @RequestParam(required = false) ApplicationStatus status,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
-            @RequestParam(required = false) String nationalId) {
-        List<Application> apps = applicationService.listApplications(status, createdFrom, createdTo, nationalId);
-        List<ApplicationResponseDTO> dtos = apps.stream().map(ApplicationMapper::toResponseDTO).collect(Collectors.toList());
-        return ResponseEntity.ok(dtos);
+            @RequestParam(required = false) String nationalId,
+            @RequestParam(required = false) BigDecimal amountMin,
+            @RequestParam(required = false) BigDecimal amountMax,
+            @RequestParam(required = false) Integer termMin,
+            @RequestParam(required = false) Integer termMax,
+            @RequestParam(required = false) String fields) {
+        if (amountMin != null && amountMax != null && amountMin.compareTo(amountMax) > 0) {
+            throw new BadRequestException("amountMin must not be greater than amountMax");
+        }
+        if (termMin != null && termMax != null && termMin > termMax) {
+            throw new BadRequestException("termMin must not be greater than termMax");
+        }
+        long mask = FieldMask.APPLICATION.parse(fields);
+        List<Application> apps = applicationService.listApplications(status, createdFrom, createdTo, nationalId,
+                amountMin, amountMax, termMin, termMax);
+        return ResponseEntity.ok(ResponseRowWriters.applications(apps, mask));
     }
 
     @PatchMapping("/{id}/decision")
@@ -90,12 +200,12 @@ public class ApplicationController {
     
     @GetMapping("/{id}/documents")
     @PreAuthorize("hasAnyRole('APPLICANT','OFFICER')")
-    public ResponseEntity<List<DocumentResponse>> getApplicationDocuments(@PathVariable UUID id, Authentication auth) {
+    public ResponseEntity<JsonArrayStream<Document>> getApplicationDocuments(@PathVariable UUID id,
+                                                                             @RequestParam(required = false) String fields,
+                                                                             Authentication auth) {
+        long mask = FieldMask.DOCUMENT.parse(fields);
         User user = userService.getCurrentUser(auth);
-        List<DocumentResponse> documents = documentService.getDocumentsByApplicationId(id, user)
-                .stream()
-                .map(DocumentMapper::toResponseDTO)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(documents);
+        List<Document> documents = documentService.getDocumentsByApplicationId(id, user);
+        return ResponseEntity.ok(ResponseRowWriters.documents(documents, mask));
     }
 }
\ No newline at end of file
@@ -4,8 +4,15 @@ import com.mortgage.mortgageportal.dto.CreateDocumentRequest;
 import com.mortgage.mortgageportal.dto.DocumentResponse;
 import com.mortgage.mortgageportal.entities.Document;
 import com.mortgage.mortgageportal.entities.User;
+import com.mortgage.mortgageportal.enums.ApplicationStatus;
+import com.mortgage.mortgageportal.idempotency.IdempotencyStore;
 import com.mortgage.mortgageportal.mapper.DocumentMapper;
+import com.mortgage.mortgageportal.serialization.FieldMask;
+import com.mortgage.mortgageportal.serialization.JsonArrayStream;
+import com.mortgage.mortgageportal.serialization.JsonObjectBody;
+import com.mortgage.mortgageportal.serialization.ResponseRowWriters;
 import com.mortgage.mortgageportal.service.DocumentService;
+import com.mortgage.mortgageportal.service.UnderwritingService;
 import com.mortgage.mortgageportal.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -16,7 +23,6 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/v1/documents")
@@ -25,31 +31,44 @@ public class DocumentController {
     
     private final DocumentService documentService;
     private final UserService userService;
+    private final IdempotencyStore idempotencyStore;
+    private final UnderwritingService underwritingService;
     
     @PostMapping
     @PreAuthorize("hasAnyRole('APPLICANT','OFFICER')")
-    public ResponseEntity<DocumentResponse> createDocument(@Valid @RequestBody CreateDocumentRequest request, Authentication auth) {
-        User user = userService.getCurrentUser(auth);
-        Document document = documentService.createDocument(request, user);
-        return ResponseEntity.ok(DocumentMapper.toResponseDTO(document));
+    public ResponseEntity<DocumentResponse> createDocument(@Valid @RequestBody CreateDocumentRequest request,
+                                                           @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+                                                           Authentication auth) {
+        return idempotencyStore.execute(idempotencyKey, "POST /documents " + auth.getName(), request, () -> {
+            User user = userService.getCurrentUser(auth);
+            Document document = documentService.createDocument(request, user);
+            // Document completeness feeds the score
+            if (document.getApplication().getStatus() == ApplicationStatus.PENDING) {
+                underwritingService.assess(document.getApplication());
+            }
+            return ResponseEntity.ok(DocumentMapper.toResponseDTO(document));
+        });
     }
     
     @GetMapping("/application/{applicationId}")
     @PreAuthorize("hasAnyRole('APPLICANT','OFFICER')")
-    public ResponseEntity<List<DocumentResponse>> getDocumentsByApplication(@PathVariable UUID applicationId, Authentication auth) {
+    public ResponseEntity<JsonArrayStream<Document>> getDocumentsByApplication(@PathVariable UUID applicationId,
+                                                                               @RequestParam(required = false) String fields,
+                                                                               Authentication auth) {
+        long mask = FieldMask.DOCUMENT.parse(fields);
         User user = userService.getCurrentUser(auth);
         List<Document> documents = documentService.getDocumentsByApplicationId(applicationId, user);
-        List<DocumentResponse> responses = documents.stream()
-                .map(DocumentMapper::toResponseDTO)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(responses);
+        return ResponseEntity.ok(ResponseRowWriters.documents(documents, mask));
     }
     
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('APPLICANT','OFFICER')")
-    public ResponseEntity<DocumentResponse> getDocument(@PathVariable UUID id, Authentication auth) {
+    public ResponseEntity<JsonObjectBody<Document>> getDocument(@PathVariable UUID id,
+                                                                @RequestParam(required = false) String fields,
+                                                                Authentication auth) {
+        long mask = FieldMask.DOCUMENT.parse(fields);
         User user = userService.getCurrentUser(auth);
         Document document = documentService.getDocumentById(id, user);
-        return ResponseEntity.ok(DocumentMapper.toResponseDTO(document));
+        return ResponseEntity.ok(ResponseRowWriters.document(document, mask));
     }
 }
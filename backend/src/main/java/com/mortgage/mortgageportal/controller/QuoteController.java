@@ -0,0 +1,89 @@
+package com.mortgage.mortgageportal.controller;
+
+import com.mortgage.mortgageportal.dto.AffordabilityResponseDTO;
+import com.mortgage.mortgageportal.dto.QuoteResponseDTO;
+import com.mortgage.mortgageportal.entities.Application;
+import com.mortgage.mortgageportal.enums.ApplicationStatus;
+import com.mortgage.mortgageportal.exception.BadRequestException;
+import com.mortgage.mortgageportal.mapper.QuoteMapper;
+import com.mortgage.mortgageportal.pricing.AmortizationEngine;
+import com.mortgage.mortgageportal.pricing.AmortizationSchedule;
+import com.mortgage.mortgageportal.pricing.ApplicationQuote;
+import com.mortgage.mortgageportal.serialization.JsonArrayStream;
+import com.mortgage.mortgageportal.serialization.JsonObjectBody;
+import com.mortgage.mortgageportal.serialization.PricingWriters;
+import com.mortgage.mortgageportal.service.ApplicationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/quotes")
+@RequiredArgsConstructor
+public class QuoteController {
+
+    private final AmortizationEngine amortizationEngine;
+    private final ApplicationService applicationService;
+
+    // Public calculator; annualRate defaults to the rate table entry for the term
+    @GetMapping
+    public ResponseEntity<QuoteResponseDTO> getQuote(@RequestParam BigDecimal amount,
+                                                     @RequestParam int loanTermMonths,
+                                                     @RequestParam(required = false) BigDecimal annualRate) {
+        int rateBps = rateBps(annualRate, loanTermMonths);
+        return ResponseEntity.ok(QuoteMapper.toResponseDTO(
+                amortizationEngine.quote(AmortizationEngine.toCents(amount), loanTermMonths, rateBps)));
+    }
+
+    @GetMapping("/schedule")
+    public ResponseEntity<JsonObjectBody<AmortizationSchedule>> getSchedule(@RequestParam BigDecimal amount,
+                                                                            @RequestParam int loanTermMonths,
+                                                                            @RequestParam(required = false) BigDecimal annualRate) {
+        int rateBps = rateBps(annualRate, loanTermMonths);
+        return ResponseEntity.ok(PricingWriters.schedule(
+                amortizationEngine.schedule(AmortizationEngine.toCents(amount), loanTermMonths, rateBps)));
+    }
+
+    @GetMapping("/affordability")
+    public ResponseEntity<AffordabilityResponseDTO> getAffordability(@RequestParam BigDecimal monthlyIncome,
+                                                                     @RequestParam(defaultValue = "0") BigDecimal monthlyDebts,
+                                                                     @RequestParam int loanTermMonths,
+                                                                     @RequestParam(required = false) BigDecimal annualRate) {
+        int rateBps = rateBps(annualRate, loanTermMonths);
+        long maxCents = amortizationEngine.maxAffordablePrincipalCents(
+                AmortizationEngine.toCents(monthlyIncome), AmortizationEngine.toCents(monthlyDebts), loanTermMonths, rateBps);
+        long paymentCents = maxCents > 0 ? amortizationEngine.quote(maxCents, loanTermMonths, rateBps).monthlyPaymentCents() : 0;
+        return ResponseEntity.ok(AffordabilityResponseDTO.builder()
+                .maxAmount(QuoteMapper.money(maxCents))
+                .loanTermMonths(loanTermMonths)
+                .annualRate(QuoteMapper.rate(rateBps))
+                .monthlyPayment(QuoteMapper.money(paymentCents))
+                .build());
+    }
+
+    @GetMapping("/pending")
+    @PreAuthorize("hasRole('OFFICER')")
+    public ResponseEntity<JsonArrayStream<ApplicationQuote>> pricePendingApplications() {
+        List<Application> pending = applicationService.listApplications(ApplicationStatus.PENDING, null, null, null);
+        return ResponseEntity.ok(PricingWriters.applicationQuotes(amortizationEngine.priceAll(pending)));
+    }
+
+    private int rateBps(BigDecimal annualRate, int loanTermMonths) {
+        if (annualRate == null) {
+            return amortizationEngine.rateBpsFor(loanTermMonths);
+        }
+        try {
+            return annualRate.movePointRight(2).setScale(0, RoundingMode.HALF_UP).intValueExact();
+        } catch (ArithmeticException e) {
+            throw new BadRequestException("Annual rate is out of range");
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.mortgage.mortgageportal.controller;
+
+import com.mortgage.mortgageportal.dto.AmountDistributionDTO;
+import com.mortgage.mortgageportal.dto.MonthlyApprovalDTO;
+import com.mortgage.mortgageportal.dto.PortfolioReportDTO;
+import com.mortgage.mortgageportal.dto.PortfolioSummaryDTO;
+import com.mortgage.mortgageportal.dto.TermExposureDTO;
+import com.mortgage.mortgageportal.enums.ApplicationStatus;
+import com.mortgage.mortgageportal.exception.BadRequestException;
+import com.mortgage.mortgageportal.mapper.ReportMapper;
+import com.mortgage.mortgageportal.reporting.ColumnarSnapshot;
+import com.mortgage.mortgageportal.reporting.PortfolioSnapshots;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Portfolio reports over the periodically refreshed columnar snapshot; see PortfolioSnapshots for staleness.
+ */
+@RestController
+@RequestMapping("/api/v1/reports")
+@RequiredArgsConstructor
+public class ReportController {
+
+    private static final int MAX_TERM_BUCKETS = 50;
+    private static final int MAX_AMOUNT_BUCKETS = 200;
+
+    private final PortfolioSnapshots portfolioSnapshots;
+
+    @GetMapping("/summary")
+    @PreAuthorize("hasRole('OFFICER')")
+    public ResponseEntity<PortfolioReportDTO<PortfolioSummaryDTO>> getSummary() {
+        ColumnarSnapshot snapshot = portfolioSnapshots.current();
+        Map<ApplicationStatus, Long> applications = new EnumMap<>(ApplicationStatus.class);
+        Map<ApplicationStatus, Integer> applicants = new EnumMap<>(ApplicationStatus.class);
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            applications.put(status, snapshot.count(status));
+            applicants.put(status, snapshot.distinctApplicants(status));
+        }
+        return ResponseEntity.ok(report(snapshot, PortfolioSummaryDTO.builder()
+                .applicationsByStatus(applications)
+                .applicants(snapshot.distinctApplicants(null))
+                .applicantsByStatus(applicants)
+                .snapshotBytes(snapshot.offHeapBytes())
+                .build()));
+    }
+
+    // Term buckets are given by their inclusive upper bounds; terms above the last bound form one more bucket
+    @GetMapping("/exposure-by-term")
+    @PreAuthorize("hasRole('OFFICER')")
+    public ResponseEntity<PortfolioReportDTO<List<TermExposureDTO>>> getExposureByTerm(
+            @RequestParam(required = false) ApplicationStatus status,
+            @RequestParam(defaultValue = "120,180,240,300,360") List<Integer> termBuckets) {
+        if (termBuckets.size() > MAX_TERM_BUCKETS) {
+            throw new BadRequestException("At most " + MAX_TERM_BUCKETS + " term buckets are allowed");
+        }
+        int[] upperBounds = new int[termBuckets.size()];
+        for (int i = 0; i < upperBounds.length; i++) {
+            upperBounds[i] = termBuckets.get(i);
+            if (upperBounds[i] < 1 || (i > 0 && upperBounds[i] <= upperBounds[i - 1])) {
+                throw new BadRequestException("Term buckets must be positive and strictly increasing");
+            }
+        }
+        ColumnarSnapshot snapshot = portfolioSnapshots.current();
+        return ResponseEntity.ok(report(snapshot, snapshot.exposureByTerm(upperBounds, status).stream()
+                .map(ReportMapper::toResponseDTO)
+                .toList()));
+    }
+
+    @GetMapping("/approval-rate")
+    @PreAuthorize("hasRole('OFFICER')")
+    public ResponseEntity<PortfolioReportDTO<List<MonthlyApprovalDTO>>> getApprovalRateByMonth() {
+        ColumnarSnapshot snapshot = portfolioSnapshots.current();
+        return ResponseEntity.ok(report(snapshot, snapshot.decisionsByMonth().stream()
+                .map(ReportMapper::toResponseDTO)
+                .toList()));
+    }
+
+    @GetMapping("/amount-distribution")
+    @PreAuthorize("hasRole('OFFICER')")
+    public ResponseEntity<PortfolioReportDTO<AmountDistributionDTO>> getAmountDistribution(
+            @RequestParam(required = false) ApplicationStatus status,
+            @RequestParam(defaultValue = "20") int buckets) {
+        if (buckets < 1 || buckets > MAX_AMOUNT_BUCKETS) {
+            throw new BadRequestException("buckets must be between 1 and " + MAX_AMOUNT_BUCKETS);
+        }
+        ColumnarSnapshot snapshot = portfolioSnapshots.current();
+        return ResponseEntity.ok(report(snapshot, ReportMapper.toResponseDTO(snapshot.amountDistribution(status, buckets))));
+    }
+
+    private static <T> PortfolioReportDTO<T> report(ColumnarSnapshot snapshot, T body) {
+        return PortfolioReportDTO.<T>builder()
+                .snapshotTakenAt(snapshot.takenAt())
+                .applications(snapshot.rows())
+                .report(body)
+                .build();
+    }
+}
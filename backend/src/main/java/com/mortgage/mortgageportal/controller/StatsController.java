@@ -0,0 +1,24 @@
+package com.mortgage.mortgageportal.controller;
+
+import com.mortgage.mortgageportal.dto.PipelineStatsDTO;
+import com.mortgage.mortgageportal.metrics.PipelineStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/stats")
+@RequiredArgsConstructor
+public class StatsController {
+
+    private final PipelineStats pipelineStats;
+
+    @GetMapping("/pipeline")
+    @PreAuthorize("hasRole('OFFICER')")
+    public ResponseEntity<PipelineStatsDTO> getPipelineStats() {
+        return ResponseEntity.ok(pipelineStats.snapshot());
+    }
+}
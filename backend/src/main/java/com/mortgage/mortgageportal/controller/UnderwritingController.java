@@ -0,0 +1,38 @@
+package com.mortgage.mortgageportal.controller;
+
+import com.mortgage.mortgageportal.dto.UnderwritingRulesDTO;
+import com.mortgage.mortgageportal.service.UnderwritingService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/underwriting")
+@RequiredArgsConstructor
+public class UnderwritingController {
+
+    private final UnderwritingService underwritingService;
+
+    @GetMapping("/rules")
+    @PreAuthorize("hasRole('OFFICER')")
+    public ResponseEntity<UnderwritingRulesDTO> getRules() {
+        return ResponseEntity.ok(underwritingService.getRules());
+    }
+
+    @PutMapping("/rules")
+    @PreAuthorize("hasRole('OFFICER')")
+    public ResponseEntity<Map<String, Integer>> updateRules(@Valid @RequestBody UnderwritingRulesDTO rules) {
+        int rescored = underwritingService.updateRules(rules);
+        return ResponseEntity.ok(Map.of("rescored", rescored));
+    }
+
+    @PostMapping("/rescore")
+    @PreAuthorize("hasRole('OFFICER')")
+    public ResponseEntity<Map<String, Integer>> rescorePending() {
+        return ResponseEntity.ok(Map.of("rescored", underwritingService.rescorePending()));
+    }
+}
@@ -0,0 +1,73 @@
+package com.mortgage.mortgageportal.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sends read-only transactions to the replica pool and everything else to the primary.
+ * Must sit behind a LazyConnectionDataSourceProxy so the target is chosen after the transaction's read-only flag is set.
+ * Read-your-writes: whenever a user's work takes a primary connection, that user is pinned to the primary for the
+ * pin window, so a read right after their own write never lands on a replica that has not caught up.
+ * Work with no authenticated user (startup, schedulers) is never pinned.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target { PRIMARY, REPLICA }
+
+    private final Cache<String, Boolean> pinnedToPrimary;
+    private final LongAdder primaryRoutes = new LongAdder();
+    private final LongAdder replicaRoutes = new LongAdder();
+    private final LongAdder pinnedReads = new LongAdder();
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, Duration pinWindow, long maxPinnedUsers) {
+        this.pinnedToPrimary = Caffeine.newBuilder()
+                .maximumSize(maxPinnedUsers)
+                .expireAfterWrite(pinWindow)
+                .build();
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String user = currentUser();
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (user == null || pinnedToPrimary.getIfPresent(user) == null) {
+                replicaRoutes.increment();
+                return Target.REPLICA;
+            }
+            pinnedReads.increment();
+        } else if (user != null) {
+            pinnedToPrimary.put(user, Boolean.TRUE);
+        }
+        primaryRoutes.increment();
+        return Target.PRIMARY;
+    }
+
+    public long getRouteCount(Target target) {
+        return target == Target.PRIMARY ? primaryRoutes.sum() : replicaRoutes.sum();
+    }
+
+    public long getPinnedReadCount() {
+        return pinnedReads.sum();
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated() || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
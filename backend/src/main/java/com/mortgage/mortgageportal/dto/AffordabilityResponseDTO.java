@@ -0,0 +1,19 @@
+package com.mortgage.mortgageportal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AffordabilityResponseDTO {
+    private BigDecimal maxAmount;
+    private Integer loanTermMonths;
+    private BigDecimal annualRate;
+    private BigDecimal monthlyPayment;
+}
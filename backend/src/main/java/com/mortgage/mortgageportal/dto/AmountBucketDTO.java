@@ -0,0 +1,19 @@
+package com.mortgage.mortgageportal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AmountBucketDTO {
+    // Inclusive lower and exclusive upper bound
+    private BigDecimal from;
+    private BigDecimal to;
+    private long count;
+}
@@ -0,0 +1,21 @@
+package com.mortgage.mortgageportal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AmountDistributionDTO {
+    private long count;
+    private BigDecimal min;
+    private BigDecimal max;
+    private BigDecimal mean;
+    private List<AmountBucketDTO> buckets;
+}
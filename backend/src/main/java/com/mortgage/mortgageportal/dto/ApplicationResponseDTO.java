@@ -1,6 +1,7 @@
 package com.mortgage.mortgageportal.dto;
 
 import com.mortgage.mortgageportal.enums.ApplicationStatus;
+import com.mortgage.mortgageportal.enums.DecisionStatus;
 import lombok.Data;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -15,4 +16,6 @@ public class ApplicationResponseDTO {
     private Integer loanTermMonths;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Integer riskScore;
+    private DecisionStatus suggestedDecision;
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.mortgage.mortgageportal.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchApplicationRequestDTO {
+    
+    @NotEmpty(message = "At least one application ID is required")
+    @Size(max = 500, message = "At most 500 application IDs per request")
+    private List<@NotNull UUID> ids;
+}
@@ -0,0 +1,19 @@
+package com.mortgage.mortgageportal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchApplicationResponseDTO {
+    private List<ApplicationResponseDTO> applications;
+    // Requested IDs that do not exist or that the caller may not see; the two are deliberately not distinguished
+    private List<UUID> missingIds;
+}
@@ -0,0 +1,20 @@
+package com.mortgage.mortgageportal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MonthlyApprovalDTO {
+    // yyyy-MM, by creation date in UTC
+    private String month;
+    private long approved;
+    private long rejected;
+    private long pending;
+    // Approved share of decided applications; null while none are decided
+    private Double approvalRate;
+}
@@ -0,0 +1,29 @@
+package com.mortgage.mortgageportal.dto;
+
+import com.mortgage.mortgageportal.enums.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PipelineStatsDTO {
+    private Map<ApplicationStatus, Long> applicationsByStatus;
+    private long applicationsCreated;
+    private long createdLastSecond;
+    private long createdLastMinute;
+    private long createdLastHour;
+    private long decisionsMade;
+    private long decisionsLastMinute;
+    private long decisionsLastHour;
+    private Map<UUID, Long> decisionsByOfficer;
+    // Time from submission to decision
+    private long averageTurnaroundMillis;
+    private long maxTurnaroundMillis;
+}
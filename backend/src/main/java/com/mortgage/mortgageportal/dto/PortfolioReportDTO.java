@@ -0,0 +1,21 @@
+package com.mortgage.mortgageportal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * A report computed from the portfolio snapshot, with the time that snapshot was taken.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PortfolioReportDTO<T> {
+    private Instant snapshotTakenAt;
+    private int applications;
+    private T report;
+}
@@ -0,0 +1,21 @@
+package com.mortgage.mortgageportal.dto;
+
+import com.mortgage.mortgageportal.enums.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PortfolioSummaryDTO {
+    private Map<ApplicationStatus, Long> applicationsByStatus;
+    private int applicants;
+    // Applicants with at least one application in the status
+    private Map<ApplicationStatus, Integer> applicantsByStatus;
+    private long snapshotBytes;
+}
@@ -0,0 +1,23 @@
+package com.mortgage.mortgageportal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuoteResponseDTO {
+    private BigDecimal amount;
+    private Integer loanTermMonths;
+    // Annual percentage, e.g. 5.75
+    private BigDecimal annualRate;
+    private BigDecimal monthlyPayment;
+    private BigDecimal finalPayment;
+    private BigDecimal totalInterest;
+    private BigDecimal totalPaid;
+}
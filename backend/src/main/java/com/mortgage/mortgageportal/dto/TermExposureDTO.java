@@ -0,0 +1,20 @@
+package com.mortgage.mortgageportal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TermExposureDTO {
+    private int minTermMonths;
+    // Null for the open-ended last bucket
+    private Integer maxTermMonths;
+    private long applications;
+    private BigDecimal totalAmount;
+}
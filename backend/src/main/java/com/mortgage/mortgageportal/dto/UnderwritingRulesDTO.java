@@ -0,0 +1,35 @@
+package com.mortgage.mortgageportal.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UnderwritingRulesDTO {
+    // Max term in months of each band -> largest amount allowed for terms in that band
+    @NotEmpty
+    private Map<Integer, BigDecimal> maxAmountByTerm;
+    // Other PENDING applications under the same national ID before the applicant counts as shopping around
+    @NotNull @Min(0)
+    private Integer maxOpenApplications;
+    // Earlier rejections under the same national ID that block approval outright
+    @NotNull @Min(1)
+    private Integer maxPriorRejections;
+    @NotNull @Min(0)
+    private Integer minDocuments;
+    @NotNull @Min(0) @Max(100)
+    private Integer approveBelowScore;
+    @NotNull @Min(0) @Max(100)
+    private Integer rejectAtOrAboveScore;
+}
@@ -1,6 +1,7 @@
 package com.mortgage.mortgageportal.entities;
 
 import com.mortgage.mortgageportal.enums.ApplicationStatus;
+import com.mortgage.mortgageportal.enums.DecisionStatus;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -46,4 +47,12 @@ public class Application {
     @UpdateTimestamp
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
+    
+    // Latest underwriting assessment; advisory only, the officer's Decision is authoritative
+    @Column(name = "risk_score")
+    private Integer riskScore;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "suggested_decision")
+    private DecisionStatus suggestedDecision;
 } 
\ No newline at end of file
@@ -20,6 +20,9 @@ import java.util.UUID;
 @AllArgsConstructor
 public class User {
     
+    // Placeholder national ID for users who have not completed KYC; shared by all of them, so it identifies no one
+    public static final String UNVERIFIED_NATIONAL_ID = "UNVERIFIED";
+    
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
@@ -1,6 +1,7 @@
 package com.mortgage.mortgageportal.event;
 
 import com.mortgage.mortgageportal.dto.ApplicationResponseDTO;
+import com.mortgage.mortgageportal.dto.DocumentResponse;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -13,5 +14,6 @@ import lombok.NoArgsConstructor;
 public class ApplicationEventPayload {
     private ApplicationResponseDTO application;
     private EventMetadata metadata;
-    private String operation; // CREATE, UPDATE, DELETE
+    private DocumentResponse document; // set for DOCUMENT_CREATE only
+    private String operation; // CREATE, UPDATE, DELETE, DECISION, DOCUMENT_CREATE
 } 
\ No newline at end of file
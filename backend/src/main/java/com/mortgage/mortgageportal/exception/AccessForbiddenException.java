@@ -0,0 +1,11 @@
+package com.mortgage.mortgageportal.exception;
+
+/**
+ * Mapped to 403 Forbidden by GlobalExceptionHandler.
+ */
+public class AccessForbiddenException extends DomainException {
+
+    public AccessForbiddenException(String message) {
+        super(message);
+    }
+}
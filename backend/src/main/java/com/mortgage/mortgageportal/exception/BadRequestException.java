@@ -0,0 +1,11 @@
+package com.mortgage.mortgageportal.exception;
+
+/**
+ * Mapped to 400 Bad Request by GlobalExceptionHandler.
+ */
+public class BadRequestException extends DomainException {
+
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
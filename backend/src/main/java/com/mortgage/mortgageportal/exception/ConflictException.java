@@ -0,0 +1,11 @@
+package com.mortgage.mortgageportal.exception;
+
+/**
+ * Mapped to 409 Conflict by GlobalExceptionHandler.
+ */
+public class ConflictException extends DomainException {
+
+    public ConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,13 @@
+package com.mortgage.mortgageportal.exception;
+
+/**
+ * Base for expected business outcomes (missing record, forbidden access, conflicting state).
+ * These are control flow, not bugs, so no stack trace is captured and suppression is disabled:
+ * probing clients that hit them on every request cost a plain allocation, not a stack walk.
+ */
+public abstract class DomainException extends RuntimeException {
+
+    protected DomainException(String message) {
+        super(message, null, false, false);
+    }
+}
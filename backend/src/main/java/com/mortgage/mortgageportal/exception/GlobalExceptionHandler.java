@@ -3,6 +3,7 @@ package com.mortgage.mortgageportal.exception;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -14,14 +15,38 @@ import java.util.Map;
 
 @ControllerAdvice
 public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<Object> handleBadRequest(BadRequestException ex, HttpServletRequest request) {
+        return error(ex, request, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<Object> handleNotFound(ResourceNotFoundException ex, HttpServletRequest request) {
+        return error(ex, request, HttpStatus.NOT_FOUND);
+    }
+
+    @ExceptionHandler({AccessForbiddenException.class, AccessDeniedException.class})
+    public ResponseEntity<Object> handleForbidden(RuntimeException ex, HttpServletRequest request) {
+        return error(ex, request, HttpStatus.FORBIDDEN);
+    }
+
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<Object> handleConflict(ConflictException ex, HttpServletRequest request) {
+        return error(ex, request, HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Object> handleAll(Exception ex, HttpServletRequest request) {
+        return error(ex, request, HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    private static ResponseEntity<Object> error(Exception ex, HttpServletRequest request, HttpStatus status) {
         Map<String, Object> body = new HashMap<>();
         body.put("timestamp", Instant.now());
         body.put("path", request.getRequestURI());
         body.put("errorCode", ex.getClass().getSimpleName());
         body.put("detail", ex.getMessage());
-        return new ResponseEntity<>(body, HttpStatus.INTERNAL_SERVER_ERROR);
+        return new ResponseEntity<>(body, status);
     }
 
     @Override
@@ -36,4 +61,4 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         body.put("detail", ex.getBindingResult().getAllErrors().get(0).getDefaultMessage());
         return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,11 @@
+package com.mortgage.mortgageportal.exception;
+
+/**
+ * Mapped to 404 Not Found by GlobalExceptionHandler.
+ */
+public class ResourceNotFoundException extends DomainException {
+
+    public ResourceNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,122 @@
+package com.mortgage.mortgageportal.idempotency;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mortgage.mortgageportal.exception.BadRequestException;
+import com.mortgage.mortgageportal.exception.ConflictException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key handling for non-idempotent POSTs.
+ * The first request with a key runs the action; later requests with the same key and caller get the stored response
+ * replayed, and requests arriving while the first is still running wait for its result instead of re-running it.
+ * Keys are bounded in number and expire after the TTL. A failed execution is forgotten so the client can retry it.
+ */
+@Component
+public class IdempotencyStore {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final ConcurrentMap<String, Execution> executions;
+    private final long waitTimeoutMillis;
+
+    public IdempotencyStore(@Value("${idempotency.max-keys:100000}") long maxKeys,
+                            @Value("${idempotency.ttl:PT24H}") Duration ttl,
+                            @Value("${idempotency.wait-timeout:PT30S}") Duration waitTimeout) {
+        this.executions = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterWrite(ttl)
+                .<String, Execution>build()
+                .asMap();
+        this.waitTimeoutMillis = waitTimeout.toMillis();
+    }
+
+    /**
+     * @param key     the client's Idempotency-Key, or null to run the action unconditionally
+     * @param scope   caller and operation the key belongs to; the same key from another caller is unrelated
+     * @param request the request body, kept with the key and compared by equals against later requests, so a reused
+     *                key cannot change the payload; it must have value equality (the request DTOs do)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ResponseEntity<T> execute(String key, String scope, Object request, Supplier<ResponseEntity<T>> action) {
+        if (key == null) {
+            return action.get();
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new BadRequestException(HEADER + " must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+        String storeKey = scope + '\n' + key;
+
+        while (true) {
+            Execution mine = new Execution(request);
+            Execution existing = executions.putIfAbsent(storeKey, mine);
+            if (existing == null) {
+                return run(storeKey, mine, action);
+            }
+            if (!Objects.equals(existing.request, request)) {
+                throw new ConflictException(HEADER + " was already used with a different request");
+            }
+            ResponseEntity<?> stored = await(existing);
+            if (stored != null) {
+                return (ResponseEntity<T>) replay(stored);
+            }
+            // The first execution failed and was removed; compete to run it again
+        }
+    }
+
+    private <T> ResponseEntity<T> run(String storeKey, Execution execution, Supplier<ResponseEntity<T>> action) {
+        try {
+            ResponseEntity<T> response = action.get();
+            execution.response.complete(response);
+            return response;
+        } catch (RuntimeException | Error e) {
+            executions.remove(storeKey, execution);
+            execution.response.complete(null);
+            throw e;
+        }
+    }
+
+    private ResponseEntity<?> await(Execution execution) {
+        try {
+            return execution.response.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new ConflictException("A request with this " + HEADER + " is still being processed");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConflictException("Interrupted while waiting for a request with this " + HEADER);
+        } catch (ExecutionException e) {
+            // Never completed exceptionally; failures complete with null
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static ResponseEntity<?> replay(ResponseEntity<?> stored) {
+        return ResponseEntity.status(stored.getStatusCode())
+                .headers(stored.getHeaders())
+                .header(REPLAYED_HEADER, "true")
+                .body(stored.getBody());
+    }
+
+    private static final class Execution {
+        private final Object request;
+        // Completed with the response, or with null when the action threw
+        private final CompletableFuture<ResponseEntity<?>> response = new CompletableFuture<>();
+
+        private Execution(Object request) {
+            this.request = request;
+        }
+    }
+}
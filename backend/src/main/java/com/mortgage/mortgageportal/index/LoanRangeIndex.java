@@ -0,0 +1,290 @@
+package com.mortgage.mortgageportal.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Range lookup over loan amount (long minor units) and term (int months).
+ * Values are kept in two sorted orders, each as parallel primitive arrays carrying both keys, so a query
+ * binary-searches both orders for its bounds, walks whichever slice is shorter, and checks the other bound with a
+ * primitive comparison. Nothing is boxed or allocated per row; only the result list is.
+ * Writes shift the arrays in place under a write lock, which is fine for the create/update rate of applications;
+ * reads share a read lock. Values are tracked by identity, so mutable entities can be indexed and re-keyed.
+ */
+public class LoanRangeIndex<T> {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<T, long[]> keysByValue = new IdentityHashMap<>();
+
+    private long[] amountOrderAmounts = new long[INITIAL_CAPACITY];
+    private int[] amountOrderTerms = new int[INITIAL_CAPACITY];
+    private Object[] amountOrderValues = new Object[INITIAL_CAPACITY];
+
+    private int[] termOrderTerms = new int[INITIAL_CAPACITY];
+    private long[] termOrderAmounts = new long[INITIAL_CAPACITY];
+    private Object[] termOrderValues = new Object[INITIAL_CAPACITY];
+
+    private int size;
+
+    /**
+     * Indexes the value under the given keys, replacing any keys it had before.
+     */
+    public void put(T value, long amountMinor, int termMonths) {
+        lock.writeLock().lock();
+        try {
+            long[] previous = keysByValue.get(value);
+            if (previous != null) {
+                if (previous[0] == amountMinor && previous[1] == termMonths) {
+                    return;
+                }
+                removeEntry(value, previous[0], (int) previous[1]);
+            }
+            ensureCapacity(size + 1);
+            insertByAmount(value, amountMinor, termMonths);
+            insertByTerm(value, amountMinor, termMonths);
+            size++;
+            keysByValue.put(value, new long[]{amountMinor, termMonths});
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the whole index with the given values in one sort, for bulk loads where inserting one value at a
+     * time would shift the arrays once per value.
+     */
+    public void rebuild(Collection<T> values, ToLongFunction<T> amountMinor, ToIntFunction<T> termMonths) {
+        List<Entry<T>> entries = new ArrayList<>(values.size());
+        for (T value : values) {
+            entries.add(new Entry<>(value, amountMinor.applyAsLong(value), termMonths.applyAsInt(value)));
+        }
+        int capacity = Math.max(INITIAL_CAPACITY, entries.size());
+        long[] byAmountAmounts = new long[capacity];
+        int[] byAmountTerms = new int[capacity];
+        Object[] byAmountValues = new Object[capacity];
+        int[] byTermTerms = new int[capacity];
+        long[] byTermAmounts = new long[capacity];
+        Object[] byTermValues = new Object[capacity];
+        Map<T, long[]> keys = new IdentityHashMap<>(entries.size());
+
+        // Stable sorts, so equal keys keep the order the values were given in, as with put
+        entries.sort((a, b) -> Long.compare(a.amount(), b.amount()));
+        for (int i = 0; i < entries.size(); i++) {
+            Entry<T> entry = entries.get(i);
+            byAmountAmounts[i] = entry.amount();
+            byAmountTerms[i] = entry.term();
+            byAmountValues[i] = entry.value();
+            keys.put(entry.value(), new long[]{entry.amount(), entry.term()});
+        }
+        entries.sort((a, b) -> Integer.compare(a.term(), b.term()));
+        for (int i = 0; i < entries.size(); i++) {
+            Entry<T> entry = entries.get(i);
+            byTermTerms[i] = entry.term();
+            byTermAmounts[i] = entry.amount();
+            byTermValues[i] = entry.value();
+        }
+
+        lock.writeLock().lock();
+        try {
+            amountOrderAmounts = byAmountAmounts;
+            amountOrderTerms = byAmountTerms;
+            amountOrderValues = byAmountValues;
+            termOrderTerms = byTermTerms;
+            termOrderAmounts = byTermAmounts;
+            termOrderValues = byTermValues;
+            keysByValue.clear();
+            keysByValue.putAll(keys);
+            size = entries.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(T value) {
+        lock.writeLock().lock();
+        try {
+            long[] previous = keysByValue.remove(value);
+            if (previous != null) {
+                removeEntry(value, previous[0], (int) previous[1]);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Values with amountMin <= amount <= amountMax and termMin <= term <= termMax, inclusive on both ends;
+     * pass Long/Integer MIN_VALUE and MAX_VALUE for an open bound. Ordered by whichever key was scanned.
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> find(long amountMin, long amountMax, int termMin, int termMax) {
+        lock.readLock().lock();
+        try {
+            if (amountMin > amountMax || termMin > termMax) {
+                return List.of();
+            }
+            int amountFrom = lowerBound(amountOrderAmounts, size, amountMin);
+            int amountTo = upperBound(amountOrderAmounts, size, amountMax);
+            int termFrom = lowerBound(termOrderTerms, size, termMin);
+            int termTo = upperBound(termOrderTerms, size, termMax);
+
+            List<T> result = new ArrayList<>(Math.min(amountTo - amountFrom, termTo - termFrom));
+            if (amountTo - amountFrom <= termTo - termFrom) {
+                for (int i = amountFrom; i < amountTo; i++) {
+                    int term = amountOrderTerms[i];
+                    if (term >= termMin && term <= termMax) {
+                        result.add((T) amountOrderValues[i]);
+                    }
+                }
+            } else {
+                for (int i = termFrom; i < termTo; i++) {
+                    long amount = termOrderAmounts[i];
+                    if (amount >= amountMin && amount <= amountMax) {
+                        result.add((T) termOrderValues[i]);
+                    }
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private record Entry<T>(T value, long amount, int term) {
+    }
+
+    private void insertByAmount(T value, long amount, int term) {
+        // After any equal keys, so entries with the same amount stay in insertion order
+        int at = upperBound(amountOrderAmounts, size, amount);
+        int tail = size - at;
+        System.arraycopy(amountOrderAmounts, at, amountOrderAmounts, at + 1, tail);
+        System.arraycopy(amountOrderTerms, at, amountOrderTerms, at + 1, tail);
+        System.arraycopy(amountOrderValues, at, amountOrderValues, at + 1, tail);
+        amountOrderAmounts[at] = amount;
+        amountOrderTerms[at] = term;
+        amountOrderValues[at] = value;
+    }
+
+    private void insertByTerm(T value, long amount, int term) {
+        int at = upperBound(termOrderTerms, size, term);
+        int tail = size - at;
+        System.arraycopy(termOrderTerms, at, termOrderTerms, at + 1, tail);
+        System.arraycopy(termOrderAmounts, at, termOrderAmounts, at + 1, tail);
+        System.arraycopy(termOrderValues, at, termOrderValues, at + 1, tail);
+        termOrderTerms[at] = term;
+        termOrderAmounts[at] = amount;
+        termOrderValues[at] = value;
+    }
+
+    private void removeEntry(T value, long amount, int term) {
+        int byAmount = lowerBound(amountOrderAmounts, size, amount);
+        while (amountOrderValues[byAmount] != value) {
+            byAmount++;
+        }
+        int byTerm = lowerBound(termOrderTerms, size, term);
+        while (termOrderValues[byTerm] != value) {
+            byTerm++;
+        }
+        int amountTail = size - byAmount - 1;
+        System.arraycopy(amountOrderAmounts, byAmount + 1, amountOrderAmounts, byAmount, amountTail);
+        System.arraycopy(amountOrderTerms, byAmount + 1, amountOrderTerms, byAmount, amountTail);
+        System.arraycopy(amountOrderValues, byAmount + 1, amountOrderValues, byAmount, amountTail);
+        int termTail = size - byTerm - 1;
+        System.arraycopy(termOrderTerms, byTerm + 1, termOrderTerms, byTerm, termTail);
+        System.arraycopy(termOrderAmounts, byTerm + 1, termOrderAmounts, byTerm, termTail);
+        System.arraycopy(termOrderValues, byTerm + 1, termOrderValues, byTerm, termTail);
+        size--;
+        amountOrderValues[size] = null;
+        termOrderValues[size] = null;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= amountOrderAmounts.length) {
+            return;
+        }
+        int capacity = Math.max(required, amountOrderAmounts.length * 2);
+        amountOrderAmounts = Arrays.copyOf(amountOrderAmounts, capacity);
+        amountOrderTerms = Arrays.copyOf(amountOrderTerms, capacity);
+        amountOrderValues = Arrays.copyOf(amountOrderValues, capacity);
+        termOrderTerms = Arrays.copyOf(termOrderTerms, capacity);
+        termOrderAmounts = Arrays.copyOf(termOrderAmounts, capacity);
+        termOrderValues = Arrays.copyOf(termOrderValues, capacity);
+    }
+
+    // First index whose key is >= target
+    private static int lowerBound(long[] keys, int size, long target) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] < target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // First index whose key is > target
+    private static int upperBound(long[] keys, int size, long target) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] <= target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int lowerBound(int[] keys, int size, int target) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] < target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int upperBound(int[] keys, int size, int target) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] <= target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,89 @@
+package com.mortgage.mortgageportal.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Case-insensitive prefix lookup from string attributes (national ID, email) to the owning id.
+ * Entries live in one sorted concurrent map keyed by "value\0id", so a prefix query is a range scan that
+ * starts in O(log n) and stops after the first limit distinct ids; its cost does not grow with the number of matches.
+ * Re-indexing an id replaces all of its previous values.
+ */
+public class PrefixIndex {
+
+    private static final char SEPARATOR = '\u0000';
+
+    private final ConcurrentSkipListMap<String, UUID> entries = new ConcurrentSkipListMap<>();
+    private final Map<UUID, String[]> keysById = new ConcurrentHashMap<>();
+
+    public void put(UUID id, String... values) {
+        keysById.compute(id, (key, previous) -> {
+            String[] keys = keysFor(id, values);
+            if (previous != null && Arrays.equals(previous, keys)) {
+                return previous;
+            }
+            if (previous != null) {
+                for (String stale : previous) {
+                    entries.remove(stale);
+                }
+            }
+            for (String entry : keys) {
+                entries.put(entry, id);
+            }
+            return keys;
+        });
+    }
+
+    public void remove(UUID id) {
+        keysById.computeIfPresent(id, (key, previous) -> {
+            for (String stale : previous) {
+                entries.remove(stale);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Distinct ids having any value that starts with the prefix, in value order, at most limit of them.
+     */
+    public List<UUID> search(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        Set<UUID> ids = new LinkedHashSet<>();
+        for (UUID id : entries.subMap(normalized, true, normalized + Character.MAX_VALUE, false).values()) {
+            ids.add(id);
+            if (ids.size() >= limit) {
+                break;
+            }
+        }
+        return new ArrayList<>(ids);
+    }
+
+    public int size() {
+        return keysById.size();
+    }
+
+    private static String[] keysFor(UUID id, String[] values) {
+        return Arrays.stream(values)
+                .map(PrefixIndex::normalize)
+                .filter(value -> !value.isEmpty())
+                .distinct()
+                .map(value -> value + SEPARATOR + id)
+                .sorted()
+                .toArray(String[]::new);
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,101 @@
+package com.mortgage.mortgageportal.index;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Scalable Bloom filter over UUIDs, used to answer "definitely not stored" without touching the store.
+ * When the newest segment reaches its capacity a segment twice as large is added, so the false-positive rate stays
+ * bounded as the data set grows and nothing ever has to be rebuilt (a rebuild would briefly produce false negatives).
+ * Removals are not supported; a removed id just stays a "maybe" and falls through to the real lookup.
+ */
+public class UuidBloomFilter {
+
+    private final double falsePositiveRate;
+    private final AtomicReference<Segment[]> segments;
+
+    public UuidBloomFilter(int initialCapacity, double falsePositiveRate) {
+        this.falsePositiveRate = falsePositiveRate;
+        this.segments = new AtomicReference<>(new Segment[]{new Segment(initialCapacity, falsePositiveRate)});
+    }
+
+    public void add(UUID id) {
+        while (true) {
+            Segment[] current = segments.get();
+            Segment last = current[current.length - 1];
+            if (last.count.sum() < last.capacity) {
+                last.add(id);
+                return;
+            }
+            Segment[] grown = new Segment[current.length + 1];
+            System.arraycopy(current, 0, grown, 0, current.length);
+            // Tighten each new segment's rate so the compound rate converges instead of growing with the segment count
+            grown[current.length] = new Segment(last.capacity * 2, falsePositiveRate / (1 << Math.min(current.length, 20)));
+            segments.compareAndSet(current, grown);
+        }
+    }
+
+    public boolean mightContain(UUID id) {
+        for (Segment segment : segments.get()) {
+            if (segment.mightContain(id)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class Segment {
+        private final int capacity;
+        private final int numBits;
+        private final int numHashes;
+        private final AtomicLongArray words;
+        private final LongAdder count = new LongAdder();
+
+        private Segment(int capacity, double falsePositiveRate) {
+            this.capacity = Math.max(capacity, 64);
+            long bits = (long) Math.ceil(-this.capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            this.numBits = (int) Math.min(Math.max(bits, 64), Integer.MAX_VALUE - 63);
+            this.numHashes = Math.max(1, (int) Math.round((double) numBits / this.capacity * Math.log(2)));
+            this.words = new AtomicLongArray((numBits + 63) >>> 6);
+        }
+
+        private void add(UUID id) {
+            long h1 = mix(id.getMostSignificantBits());
+            long h2 = mix(id.getLeastSignificantBits()) | 1;
+            for (int i = 0; i < numHashes; i++) {
+                int bit = (int) Long.remainderUnsigned(h1 + i * h2, numBits);
+                int word = bit >>> 6;
+                long mask = 1L << bit;
+                long current;
+                while (((current = words.get(word)) & mask) == 0) {
+                    if (words.compareAndSet(word, current, current | mask)) {
+                        break;
+                    }
+                }
+            }
+            count.increment();
+        }
+
+        private boolean mightContain(UUID id) {
+            long h1 = mix(id.getMostSignificantBits());
+            long h2 = mix(id.getLeastSignificantBits()) | 1;
+            for (int i = 0; i < numHashes; i++) {
+                int bit = (int) Long.remainderUnsigned(h1 + i * h2, numBits);
+                if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // Stafford variant 13 of the MurmurHash3 finalizer; random UUIDs are already well distributed but
+        // time-based or sequential ones are not
+        private static long mix(long z) {
+            z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+            z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+            return z ^ (z >>> 31);
+        }
+    }
+}
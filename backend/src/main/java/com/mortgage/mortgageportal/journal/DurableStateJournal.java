@@ -0,0 +1,56 @@
+package com.mortgage.mortgageportal.journal;
+
+import com.mortgage.mortgageportal.entities.Application;
+import com.mortgage.mortgageportal.entities.Decision;
+import com.mortgage.mortgageportal.entities.Document;
+
+import java.util.Collection;
+
+/**
+ * Writes each change to the mapped journal and waits for group commit before returning.
+ * The image is encoded inside the journal's append lock, so when two requests change the same entity the
+ * record written last always carries the state written last.
+ */
+public class DurableStateJournal implements StateJournal {
+
+    private final MappedJournal journal;
+
+    public DurableStateJournal(MappedJournal journal) {
+        this.journal = journal;
+    }
+
+    @Override
+    public void applicationSaved(Application application) {
+        journal.sync(journal.append(RecordCodec.APPLICATION_SAVED, out -> RecordCodec.writeApplication(out, application)));
+    }
+
+    @Override
+    public void applicationsSaved(Collection<Application> applications) {
+        long last = 0;
+        for (Application application : applications) {
+            last = journal.append(RecordCodec.APPLICATION_SAVED, out -> RecordCodec.writeApplication(out, application));
+        }
+        // Sequences only grow, so the last one covers the whole batch
+        if (last > 0) {
+            journal.sync(last);
+        }
+    }
+
+    @Override
+    public void applicationDeleted(Application application) {
+        journal.sync(journal.append(RecordCodec.APPLICATION_DELETED, out -> RecordCodec.writeId(out, application.getId())));
+    }
+
+    @Override
+    public void documentSaved(Document document) {
+        journal.sync(journal.append(RecordCodec.DOCUMENT_SAVED, out -> RecordCodec.writeDocument(out, document)));
+    }
+
+    @Override
+    public void applicationDecided(Application application, Decision decision) {
+        journal.sync(journal.append(RecordCodec.APPLICATION_DECIDED, out -> {
+            RecordCodec.writeApplication(out, application);
+            RecordCodec.writeDecision(out, decision);
+        }));
+    }
+}
@@ -0,0 +1,167 @@
+package com.mortgage.mortgageportal.journal;
+
+import com.mortgage.mortgageportal.entities.Application;
+import com.mortgage.mortgageportal.entities.Decision;
+import com.mortgage.mortgageportal.entities.Document;
+import com.mortgage.mortgageportal.entities.User;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Rebuilds the in-memory stores at startup from the newest snapshot plus the journal written after it, then takes
+ * a snapshot periodically and on shutdown.
+ * A snapshot first rolls the journal, so every change in earlier segments was applied in memory before the stores
+ * are read; changes made while the snapshot is being written land in the new segment, and since records are full
+ * images, replaying one the snapshot already reflects is harmless. Documents and decisions whose application is
+ * unknown at that point of the replay (deleted, or created after the snapshot read the applications) are skipped;
+ * in the second case the journal tail brings both back in order.
+ */
+@Component
+@ConditionalOnProperty(name = "journal.enabled", havingValue = "true")
+@Slf4j
+public class JournalLifecycle {
+
+    private static final int SNAPSHOTS_KEPT = 2;
+
+    private final MappedJournal journal;
+    private final JournaledStore<Application> applications;
+    private final JournaledStore<Document> documents;
+    private final JournaledStore<Decision> decisions;
+    private final Path directory;
+
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+    private long appendedAtLastSnapshot = -1;
+
+    public JournalLifecycle(MappedJournal journal,
+                            JournaledStore<Application> applications,
+                            JournaledStore<Document> documents,
+                            JournaledStore<Decision> decisions,
+                            @Value("${journal.directory:data/journal}") Path directory) {
+        this.journal = journal;
+        this.applications = applications;
+        this.documents = documents;
+        this.decisions = decisions;
+        this.directory = directory;
+    }
+
+    @PostConstruct
+    public void recover() {
+        long start = System.nanoTime();
+        Map<UUID, User> users = new HashMap<>();
+        long[] counts = new long[2];
+        RecordFrames.RecordHandler handler = (type, payload) -> apply(type, payload, users);
+        applications.beginRestore();
+        documents.beginRestore();
+        decisions.beginRestore();
+        try {
+            OptionalLong nextSegment = SnapshotFiles.loadLatest(directory, (type, payload) -> {
+                handler.accept(type, payload);
+                counts[0]++;
+            });
+            counts[1] = journal.replay(nextSegment.orElse(0), handler);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot recover state from " + directory, e);
+        } finally {
+            applications.endRestore();
+            documents.endRestore();
+            decisions.endRestore();
+        }
+        log.info("Recovered {} snapshot records and {} journal records in {} ms",
+                counts[0], counts[1], (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @Scheduled(initialDelayString = "${journal.snapshot-interval:PT10M}", fixedDelayString = "${journal.snapshot-interval:PT10M}")
+    public void scheduledSnapshot() {
+        snapshot();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        snapshot();
+    }
+
+    /**
+     * Writes a snapshot unless nothing was journaled since the last one, then drops what it made redundant.
+     */
+    public void snapshot() {
+        // Scheduled and shutdown snapshots must not interleave their roll and retention
+        snapshotLock.lock();
+        try {
+            if (journal.appendedCount() == appendedAtLastSnapshot) {
+                return;
+            }
+            long start = System.nanoTime();
+            long appendedBefore = journal.appendedCount();
+            long nextSegment = journal.roll();
+            try {
+                long records = SnapshotFiles.write(directory, nextSegment, writer -> {
+                    for (Application app : applications.snapshotRecords()) {
+                        writer.append(RecordCodec.APPLICATION_SAVED, out -> RecordCodec.writeApplication(out, app));
+                    }
+                    for (Document document : documents.snapshotRecords()) {
+                        writer.append(RecordCodec.DOCUMENT_SAVED, out -> RecordCodec.writeDocument(out, document));
+                    }
+                    for (Decision decision : decisions.snapshotRecords()) {
+                        writer.append(RecordCodec.DECISION_SAVED, out -> RecordCodec.writeDecision(out, decision));
+                    }
+                });
+                SnapshotFiles.retain(directory, SNAPSHOTS_KEPT).ifPresent(journal::deleteSegmentsBefore);
+                appendedAtLastSnapshot = appendedBefore;
+                log.info("Wrote snapshot of {} records in {} ms", records, (System.nanoTime() - start) / 1_000_000);
+            } catch (IOException | RuntimeException e) {
+                // The journal still holds everything, so a failed snapshot only means a longer replay next start
+                log.error("Snapshot failed", e);
+            }
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    private void apply(byte type, ByteBuffer payload, Map<UUID, User> users) {
+        switch (type) {
+            case RecordCodec.APPLICATION_SAVED -> applications.restore(RecordCodec.readApplication(payload, users));
+            case RecordCodec.APPLICATION_DELETED -> applications.restoreRemoval(RecordCodec.readId(payload));
+            case RecordCodec.DOCUMENT_SAVED -> {
+                Document document = RecordCodec.readDocument(payload);
+                Application app = resolve(document.getApplication());
+                if (app != null) {
+                    document.setApplication(app);
+                    documents.restore(document);
+                }
+            }
+            case RecordCodec.DECISION_SAVED -> restoreDecision(RecordCodec.readDecision(payload, users));
+            case RecordCodec.APPLICATION_DECIDED -> {
+                applications.restore(RecordCodec.readApplication(payload, users));
+                restoreDecision(RecordCodec.readDecision(payload, users));
+            }
+            default -> log.warn("Skipping journal record of unknown type {}", type);
+        }
+    }
+
+    private void restoreDecision(Decision decision) {
+        Application app = resolve(decision.getApplication());
+        if (app != null) {
+            decision.setApplication(app);
+            decisions.restore(decision);
+        }
+    }
+
+    private Application resolve(Application stub) {
+        return stub == null ? null : applications.findForRestore(stub.getId());
+    }
+}
@@ -0,0 +1,41 @@
+package com.mortgage.mortgageportal.journal;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * An in-memory store that can be rebuilt from snapshot and journal records.
+ * Restores bypass access checks, events and the journal itself, and must rebuild every secondary index.
+ */
+public interface JournaledStore<T> {
+
+    /**
+     * Called before the first restore of a recovery, so a store can defer index work to {@link #endRestore()}.
+     */
+    default void beginRestore() {
+    }
+
+    default void endRestore() {
+    }
+
+    /**
+     * Inserts the record, or overwrites the fields of the record already stored under its id in place,
+     * so objects that reference it keep pointing at the live instance.
+     */
+    void restore(T record);
+
+    void restoreRemoval(UUID id);
+
+    T findForRestore(UUID id);
+
+    /**
+     * Number of records currently stored; constant time, so it can back a gauge.
+     */
+    int size();
+
+    /**
+     * Everything currently stored, for writing a snapshot. Weakly consistent: records changed during the
+     * iteration may or may not be included, which the journal tail covers.
+     */
+    Collection<T> snapshotRecords();
+}
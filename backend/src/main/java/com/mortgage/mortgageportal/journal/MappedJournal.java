@@ -0,0 +1,249 @@
+package com.mortgage.mortgageportal.journal;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Append-only log of framed records in fixed-size memory-mapped segment files (journal-NNNNNNNNNNNNNNNN.log).
+ * Appends copy into the mapped segment under a short lock; durability is a separate step with group commit:
+ * the first caller to find no flush in progress forces the segment for everything appended so far, and callers
+ * that arrive meanwhile wait for that flush or the next one, so one fsync covers a whole burst of writers.
+ * Every open starts a new segment, so earlier segments are immutable and their possibly torn tail is simply where
+ * replay stops.
+ */
+@Slf4j
+public class MappedJournal implements Closeable {
+
+    private static final String PREFIX = "journal-";
+    private static final String SUFFIX = ".log";
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final boolean fsync;
+
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private FileChannel channel;
+    private MappedByteBuffer segment;
+    private long segmentId;
+    private long appended;
+
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final Condition synced = syncLock.newCondition();
+    private boolean syncing;
+    private volatile long durable;
+
+    public MappedJournal(Path directory, int segmentBytes, boolean fsync) {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.fsync = fsync;
+        try {
+            Files.createDirectories(directory);
+            List<Long> existing = segmentIds();
+            openSegment(existing.isEmpty() ? 1 : existing.get(existing.size() - 1) + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open journal in " + directory, e);
+        }
+    }
+
+    /**
+     * Appends one record and returns its sequence for {@link #sync(long)}. Starts a new segment when the
+     * current one is full.
+     */
+    public long append(byte type, Consumer<ByteBuffer> payload) {
+        appendLock.lock();
+        try {
+            if (!RecordFrames.write(segment, type, payload)) {
+                rollLocked();
+                if (!RecordFrames.write(segment, type, payload)) {
+                    throw new IllegalStateException("Journal record of type " + type + " exceeds the segment size");
+                }
+            }
+            return ++appended;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Returns once every record up to the sequence is on stable storage (or, with fsync off, in the page cache,
+     * which survives a process crash but not a power loss).
+     */
+    public void sync(long sequence) {
+        if (!fsync) {
+            return;
+        }
+        while (durable < sequence) {
+            syncLock.lock();
+            try {
+                if (durable >= sequence) {
+                    return;
+                }
+                if (syncing) {
+                    synced.awaitUninterruptibly();
+                    continue;
+                }
+                syncing = true;
+            } finally {
+                syncLock.unlock();
+            }
+
+            long target;
+            MappedByteBuffer toForce;
+            appendLock.lock();
+            try {
+                target = appended;
+                toForce = segment;
+            } finally {
+                appendLock.unlock();
+            }
+            boolean forced = false;
+            try {
+                // Segments rolled since target was read were forced when they were closed
+                toForce.force();
+                forced = true;
+            } finally {
+                syncLock.lock();
+                try {
+                    if (forced) {
+                        durable = Math.max(durable, target);
+                    }
+                    syncing = false;
+                    synced.signalAll();
+                } finally {
+                    syncLock.unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * Closes the current segment and starts the next one; returns the new segment's id. Everything appended
+     * before the call is in segments with smaller ids.
+     */
+    public long roll() {
+        appendLock.lock();
+        try {
+            rollLocked();
+            return segmentId;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Replays closed segments with id >= fromSegment in order, stopping within each at its first invalid frame.
+     * Must be called before anything is appended to the current segment.
+     */
+    public long replay(long fromSegment, RecordFrames.RecordHandler handler) {
+        long records = 0;
+        try {
+            for (long id : segmentIds()) {
+                if (id < fromSegment || id >= segmentId) {
+                    continue;
+                }
+                try (FileChannel in = FileChannel.open(segmentPath(id), StandardOpenOption.READ)) {
+                    records += RecordFrames.read(in.map(FileChannel.MapMode.READ_ONLY, 0, in.size()), handler);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot replay journal in " + directory, e);
+        }
+        return records;
+    }
+
+    /**
+     * Deletes closed segments with id < beforeSegment, once a snapshot has made them redundant.
+     */
+    public void deleteSegmentsBefore(long beforeSegment) {
+        try {
+            for (long id : segmentIds()) {
+                if (id < beforeSegment && id < segmentId) {
+                    Files.deleteIfExists(segmentPath(id));
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Could not delete journal segments before {}", beforeSegment, e);
+        }
+    }
+
+    public long currentSegment() {
+        appendLock.lock();
+        try {
+            return segmentId;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Records appended since this journal was opened.
+     */
+    public long appendedCount() {
+        appendLock.lock();
+        try {
+            return appended;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        appendLock.lock();
+        try {
+            segment.force();
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private void rollLocked() {
+        try {
+            segment.force();
+            channel.close();
+            openSegment(segmentId + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot roll journal segment " + segmentId, e);
+        }
+    }
+
+    private void openSegment(long id) throws IOException {
+        channel = FileChannel.open(segmentPath(id), StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+        segmentId = id;
+        log.debug("Opened journal segment {}", segmentPath(id));
+    }
+
+    private Path segmentPath(long id) {
+        return directory.resolve(String.format("%s%016d%s", PREFIX, id, SUFFIX));
+    }
+
+    private List<Long> segmentIds() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Long> ids = new ArrayList<>();
+            files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(PREFIX) && name.endsWith(SUFFIX))
+                    .forEach(name -> ids.add(Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()))));
+            ids.sort(null);
+            return ids;
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package com.mortgage.mortgageportal.journal;
+
+import com.mortgage.mortgageportal.entities.Application;
+import com.mortgage.mortgageportal.entities.Decision;
+import com.mortgage.mortgageportal.entities.Document;
+import com.mortgage.mortgageportal.entities.User;
+import com.mortgage.mortgageportal.enums.ApplicationStatus;
+import com.mortgage.mortgageportal.enums.DecisionStatus;
+import com.mortgage.mortgageportal.enums.UserRole;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Binary images of the journaled entities. Linked entities are written by id (documents and decisions carry their
+ * application's id, and come back with a stub application holding only that id); users are written inline, since
+ * they live in the users table rather than in a journaled store. Enums are stored by ordinal, so constants may be
+ * appended but never reordered.
+ */
+final class RecordCodec {
+
+    static final byte APPLICATION_SAVED = 1;
+    static final byte APPLICATION_DELETED = 2;
+    static final byte DOCUMENT_SAVED = 3;
+    static final byte DECISION_SAVED = 4;
+    // A decided application followed by its decision, in one frame
+    static final byte APPLICATION_DECIDED = 5;
+
+    private static final ApplicationStatus[] APPLICATION_STATUSES = ApplicationStatus.values();
+    private static final DecisionStatus[] DECISION_STATUSES = DecisionStatus.values();
+    private static final UserRole[] ROLES = UserRole.values();
+
+    private static final int NULL_INT = Integer.MIN_VALUE;
+    private static final long NULL_LONG = Long.MIN_VALUE;
+
+    private RecordCodec() {
+    }
+
+    static void writeApplication(ByteBuffer out, Application app) {
+        writeUuid(out, app.getId());
+        writeUser(out, app.getUser());
+        writeEnum(out, app.getStatus());
+        writeDecimal(out, app.getAmount());
+        writeInt(out, app.getLoanTermMonths());
+        writeDateTime(out, app.getCreatedAt());
+        writeDateTime(out, app.getUpdatedAt());
+        writeInt(out, app.getRiskScore());
+        writeEnum(out, app.getSuggestedDecision());
+    }
+
+    /**
+     * Users are shared through the given map so a million applications from one applicant hold one User.
+     */
+    static Application readApplication(ByteBuffer in, Map<UUID, User> users) {
+        return Application.builder()
+                .id(readUuid(in))
+                .user(readUser(in, users))
+                .status(readEnum(in, APPLICATION_STATUSES))
+                .amount(readDecimal(in))
+                .loanTermMonths(readInt(in))
+                .createdAt(readDateTime(in))
+                .updatedAt(readDateTime(in))
+                .riskScore(readInt(in))
+                .suggestedDecision(readEnum(in, DECISION_STATUSES))
+                .build();
+    }
+
+    static void writeId(ByteBuffer out, UUID id) {
+        writeUuid(out, id);
+    }
+
+    static UUID readId(ByteBuffer in) {
+        return readUuid(in);
+    }
+
+    static void writeDocument(ByteBuffer out, Document document) {
+        writeUuid(out, document.getId());
+        writeUuid(out, document.getApplication() != null ? document.getApplication().getId() : null);
+        writeString(out, document.getFileName());
+        writeString(out, document.getFileType());
+        writeLong(out, document.getFileSize());
+        writeString(out, document.getPresignedUrl());
+        writeDateTime(out, document.getUploadedAt());
+    }
+
+    static Document readDocument(ByteBuffer in) {
+        return Document.builder()
+                .id(readUuid(in))
+                .application(stub(readUuid(in)))
+                .fileName(readString(in))
+                .fileType(readString(in))
+                .fileSize(readLong(in))
+                .presignedUrl(readString(in))
+                .uploadedAt(readDateTime(in))
+                .build();
+    }
+
+    static void writeDecision(ByteBuffer out, Decision decision) {
+        writeUuid(out, decision.getId());
+        writeUuid(out, decision.getApplication() != null ? decision.getApplication().getId() : null);
+        writeUser(out, decision.getOfficer());
+        writeEnum(out, decision.getStatus());
+        writeString(out, decision.getComments());
+        writeDateTime(out, decision.getDecidedAt());
+    }
+
+    static Decision readDecision(ByteBuffer in, Map<UUID, User> users) {
+        return Decision.builder()
+                .id(readUuid(in))
+                .application(stub(readUuid(in)))
+                .officer(readUser(in, users))
+                .status(readEnum(in, DECISION_STATUSES))
+                .comments(readString(in))
+                .decidedAt(readDateTime(in))
+                .build();
+    }
+
+    private static Application stub(UUID applicationId) {
+        return applicationId == null ? null : Application.builder().id(applicationId).build();
+    }
+
+    private static void writeUser(ByteBuffer out, User user) {
+        if (user == null) {
+            out.put((byte) 0);
+            return;
+        }
+        out.put((byte) 1);
+        writeUuid(out, user.getId());
+        writeString(out, user.getFullName());
+        writeString(out, user.getEmail());
+        writeString(out, user.getNationalId());
+        writeEnum(out, user.getRole());
+    }
+
+    // The newest image of a user wins; records decoded earlier keep the instance they were given
+    private static User readUser(ByteBuffer in, Map<UUID, User> users) {
+        if (in.get() == 0) {
+            return null;
+        }
+        User user = User.builder()
+                .id(readUuid(in))
+                .fullName(readString(in))
+                .email(readString(in))
+                .nationalId(readString(in))
+                .role(readEnum(in, ROLES))
+                .build();
+        if (user.getId() == null) {
+            return user;
+        }
+        User known = users.get(user.getId());
+        if (user.equals(known)) {
+            return known;
+        }
+        users.put(user.getId(), user);
+        return user;
+    }
+
+    private static void writeUuid(ByteBuffer out, UUID id) {
+        if (id == null) {
+            out.put((byte) 0);
+            return;
+        }
+        out.put((byte) 1);
+        out.putLong(id.getMostSignificantBits());
+        out.putLong(id.getLeastSignificantBits());
+    }
+
+    private static UUID readUuid(ByteBuffer in) {
+        return in.get() == 0 ? null : new UUID(in.getLong(), in.getLong());
+    }
+
+    private static void writeString(ByteBuffer out, String value) {
+        if (value == null) {
+            out.putInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.putInt(bytes.length);
+        out.put(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeInt(ByteBuffer out, Integer value) {
+        out.putInt(value == null ? NULL_INT : value);
+    }
+
+    private static Integer readInt(ByteBuffer in) {
+        int value = in.getInt();
+        return value == NULL_INT ? null : value;
+    }
+
+    private static void writeLong(ByteBuffer out, Long value) {
+        out.putLong(value == null ? NULL_LONG : value);
+    }
+
+    private static Long readLong(ByteBuffer in) {
+        long value = in.getLong();
+        return value == NULL_LONG ? null : value;
+    }
+
+    private static void writeEnum(ByteBuffer out, Enum<?> value) {
+        out.put(value == null ? -1 : (byte) value.ordinal());
+    }
+
+    private static <E extends Enum<E>> E readEnum(ByteBuffer in, E[] values) {
+        byte ordinal = in.get();
+        return ordinal < 0 ? null : values[ordinal];
+    }
+
+    // Amounts are DECIMAL(15,2), so the unscaled value is almost always a few bytes
+    private static void writeDecimal(ByteBuffer out, BigDecimal value) {
+        if (value == null) {
+            out.putInt(NULL_INT);
+            return;
+        }
+        byte[] unscaled = value.unscaledValue().toByteArray();
+        out.putInt(value.scale());
+        out.put((byte) unscaled.length);
+        out.put(unscaled);
+    }
+
+    private static BigDecimal readDecimal(ByteBuffer in) {
+        int scale = in.getInt();
+        if (scale == NULL_INT) {
+            return null;
+        }
+        byte[] unscaled = new byte[in.get() & 0xFF];
+        in.get(unscaled);
+        return new BigDecimal(new BigInteger(unscaled), scale);
+    }
+
+    private static void writeDateTime(ByteBuffer out, LocalDateTime value) {
+        if (value == null) {
+            out.putLong(NULL_LONG);
+            return;
+        }
+        out.putLong(value.toEpochSecond(ZoneOffset.UTC));
+        out.putInt(value.getNano());
+    }
+
+    private static LocalDateTime readDateTime(ByteBuffer in) {
+        long seconds = in.getLong();
+        return seconds == NULL_LONG ? null : LocalDateTime.ofEpochSecond(seconds, in.getInt(), ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,78 @@
+package com.mortgage.mortgageportal.journal;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+/**
+ * Framing shared by journal segments and snapshots: [int length][int crc32c][byte type][payload], where length
+ * covers type and payload and the checksum covers the same bytes. A length of zero (unwritten, zero-filled space)
+ * ends the sequence, as does a frame that overruns the buffer or fails its checksum, which is how a record torn by
+ * a crash is detected and dropped.
+ */
+final class RecordFrames {
+
+    static final int HEADER_BYTES = Integer.BYTES + Integer.BYTES;
+
+    @FunctionalInterface
+    interface RecordHandler {
+        void accept(byte type, ByteBuffer payload);
+    }
+
+    private RecordFrames() {
+    }
+
+    /**
+     * Appends one frame at the buffer's position. Returns false, with the position unchanged and a terminator
+     * written where the frame would have started, if the frame does not fit in the remaining space.
+     */
+    static boolean write(ByteBuffer buffer, byte type, Consumer<ByteBuffer> payload) {
+        int start = buffer.position();
+        try {
+            buffer.position(start + HEADER_BYTES);
+            buffer.put(type);
+            payload.accept(buffer);
+        } catch (BufferOverflowException | IllegalArgumentException e) {
+            buffer.position(start);
+            if (buffer.remaining() >= Integer.BYTES) {
+                buffer.putInt(start, 0);
+            }
+            return false;
+        }
+        int end = buffer.position();
+        int length = end - start - HEADER_BYTES;
+        buffer.putInt(start, length);
+        buffer.putInt(start + Integer.BYTES, checksum(buffer, start + HEADER_BYTES, length));
+        return true;
+    }
+
+    /**
+     * Hands every valid frame from the buffer's position to the handler, leaving the position after the last one.
+     * Returns the number of frames read.
+     */
+    static long read(ByteBuffer buffer, RecordHandler handler) {
+        long count = 0;
+        while (buffer.remaining() >= HEADER_BYTES) {
+            int start = buffer.position();
+            int length = buffer.getInt(start);
+            if (length < 1 || length > buffer.remaining() - HEADER_BYTES) {
+                break;
+            }
+            int body = start + HEADER_BYTES;
+            if (buffer.getInt(start + Integer.BYTES) != checksum(buffer, body, length)) {
+                break;
+            }
+            handler.accept(buffer.get(body), buffer.slice(body + 1, length - 1));
+            buffer.position(body + length);
+            count++;
+        }
+        return count;
+    }
+
+    private static int checksum(ByteBuffer buffer, int offset, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(offset, length));
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,181 @@
+package com.mortgage.mortgageportal.journal;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Snapshot files (snapshot-NNNNNNNNNNNNNNNN.bin, named by the first journal segment not covered):
+ * [int magic][int version][long nextSegment], framed records as in the journal, an empty frame, then
+ * [long recordCount][int magic]. A snapshot is written to a temporary file, forced and atomically renamed, so a
+ * visible snapshot is always complete; the footer still guards against truncation by other means.
+ * Loading maps the file, so one snapshot is limited to 2 GB.
+ */
+@Slf4j
+final class SnapshotFiles {
+
+    private static final int MAGIC = 0x4D50534E;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = Integer.BYTES + Integer.BYTES + Long.BYTES;
+    private static final int FOOTER_BYTES = Integer.BYTES + Long.BYTES + Integer.BYTES;
+    private static final int BUFFER_BYTES = 1 << 20;
+    private static final int MAX_RECORD_BYTES = 64 << 20;
+
+    private static final String PREFIX = "snapshot-";
+    private static final String SUFFIX = ".bin";
+
+    private SnapshotFiles() {
+    }
+
+    /**
+     * Buffered sink for the records of one snapshot.
+     */
+    static final class Writer {
+
+        private final FileChannel channel;
+        private ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+        private long records;
+
+        private Writer(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        void append(byte type, Consumer<ByteBuffer> payload) throws IOException {
+            while (!RecordFrames.write(buffer, type, payload)) {
+                if (buffer.position() > 0) {
+                    flush();
+                } else if (buffer.capacity() < MAX_RECORD_BYTES) {
+                    buffer = ByteBuffer.allocateDirect(buffer.capacity() * 2);
+                } else {
+                    throw new IllegalStateException("Snapshot record of type " + type + " is larger than " + MAX_RECORD_BYTES + " bytes");
+                }
+            }
+            records++;
+        }
+
+        private void putRaw(Consumer<ByteBuffer> bytes, int length) throws IOException {
+            if (buffer.remaining() < length) {
+                flush();
+            }
+            bytes.accept(buffer);
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+
+    @FunctionalInterface
+    interface Body {
+        void writeTo(Writer writer) throws IOException;
+    }
+
+    /**
+     * Writes a complete snapshot and returns the number of records in it.
+     */
+    static long write(Path directory, long nextSegment, Body body) throws IOException {
+        Files.createDirectories(directory);
+        Path target = snapshotPath(directory, nextSegment);
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+        long records;
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE)) {
+            Writer writer = new Writer(channel);
+            writer.putRaw(b -> b.putInt(MAGIC).putInt(VERSION).putLong(nextSegment), HEADER_BYTES);
+            body.writeTo(writer);
+            records = writer.records;
+            writer.putRaw(b -> b.putInt(0).putLong(records).putInt(MAGIC), FOOTER_BYTES);
+            writer.flush();
+            channel.force(true);
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return records;
+    }
+
+    /**
+     * Loads the newest valid snapshot into the handler and returns the first journal segment it does not cover.
+     * Each candidate is checked in full before any of its records is handed over, so a damaged snapshot is skipped
+     * rather than half applied. Empty when there is no valid snapshot.
+     */
+    static OptionalLong loadLatest(Path directory, RecordFrames.RecordHandler handler) throws IOException {
+        List<Long> candidates = snapshotIds(directory);
+        for (int i = candidates.size() - 1; i >= 0; i--) {
+            long id = candidates.get(i);
+            try (FileChannel channel = FileChannel.open(snapshotPath(directory, id), StandardOpenOption.READ)) {
+                MappedByteBuffer file = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                if (!isValid(file.duplicate())) {
+                    log.warn("Skipping damaged snapshot {}", snapshotPath(directory, id));
+                    continue;
+                }
+                ByteBuffer body = file.duplicate();
+                body.position(HEADER_BYTES);
+                RecordFrames.read(body, handler);
+                return OptionalLong.of(file.getLong(Integer.BYTES + Integer.BYTES));
+            }
+        }
+        return OptionalLong.empty();
+    }
+
+    /**
+     * Keeps the newest snapshots and deletes the rest; returns the first journal segment the oldest kept one needs,
+     * so older segments can go too.
+     */
+    static OptionalLong retain(Path directory, int keep) throws IOException {
+        List<Long> ids = snapshotIds(directory);
+        if (ids.isEmpty()) {
+            return OptionalLong.empty();
+        }
+        int firstKept = Math.max(0, ids.size() - keep);
+        for (int i = 0; i < firstKept; i++) {
+            Files.deleteIfExists(snapshotPath(directory, ids.get(i)));
+        }
+        return OptionalLong.of(ids.get(firstKept));
+    }
+
+    private static boolean isValid(ByteBuffer file) {
+        if (file.remaining() < HEADER_BYTES + FOOTER_BYTES || file.getInt() != MAGIC || file.getInt() != VERSION) {
+            return false;
+        }
+        file.getLong();
+        long records = RecordFrames.read(file, (type, payload) -> {
+        });
+        return file.remaining() >= FOOTER_BYTES
+                && file.getInt() == 0
+                && file.getLong() == records
+                && file.getInt() == MAGIC;
+    }
+
+    private static Path snapshotPath(Path directory, long nextSegment) {
+        return directory.resolve(String.format("%s%016d%s", PREFIX, nextSegment, SUFFIX));
+    }
+
+    private static List<Long> snapshotIds(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Long> ids = new ArrayList<>();
+            files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(PREFIX) && name.endsWith(SUFFIX))
+                    .forEach(name -> ids.add(Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()))));
+            ids.sort(null);
+            return ids;
+        }
+    }
+}
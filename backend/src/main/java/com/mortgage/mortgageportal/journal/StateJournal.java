@@ -0,0 +1,49 @@
+package com.mortgage.mortgageportal.journal;
+
+import com.mortgage.mortgageportal.entities.Application;
+import com.mortgage.mortgageportal.entities.Decision;
+import com.mortgage.mortgageportal.entities.Document;
+
+import java.util.Collection;
+
+/**
+ * Receives every change to the in-memory stores, after it has been applied in memory.
+ * Each call records the full current image of the entity, so replaying a record twice is harmless, and returns
+ * once the record is durable. The default implementation does nothing (journal.enabled=false).
+ */
+public interface StateJournal {
+
+    StateJournal NOOP = new StateJournal() {
+        @Override
+        public void applicationSaved(Application application) {
+        }
+
+        @Override
+        public void applicationsSaved(Collection<Application> applications) {
+        }
+
+        @Override
+        public void applicationDeleted(Application application) {
+        }
+
+        @Override
+        public void documentSaved(Document document) {
+        }
+
+        @Override
+        public void applicationDecided(Application application, Decision decision) {
+        }
+    };
+
+    void applicationSaved(Application application);
+
+    /** Records a batch of saves and returns once all of them are durable, waiting for durability only once. */
+    void applicationsSaved(Collection<Application> applications);
+
+    void applicationDeleted(Application application);
+
+    void documentSaved(Document document);
+
+    /** Records a decision and the application it decided as one record, so neither is recovered without the other. */
+    void applicationDecided(Application application, Decision decision);
+}
@@ -0,0 +1,92 @@
+package com.mortgage.mortgageportal.limiter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrency limit that adapts with additive-increase / multiplicative-decrease.
+ * Like TCP congestion control, the limit grows by about one per limit's worth of completions under the latency target
+ * (only while the limit is actually being used), and is cut by the backoff ratio whenever a request is slower than
+ * the target or fails.
+ * Everything is lock-free so acquire/release never park a request thread.
+ */
+public class AimdLimiter {
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyTargetNanos;
+    private final double backoffRatio;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    // Double.doubleToLongBits of the current limit
+    private final AtomicLong limitBits;
+    private final LongAdder rejected = new LongAdder();
+
+    public AimdLimiter(String name, int initialLimit, int minLimit, int maxLimit, long latencyTargetMillis, double backoffRatio) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Invalid limits for " + name + ": initial=" + initialLimit
+                    + ", min=" + minLimit + ", max=" + maxLimit);
+        }
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyTargetNanos = TimeUnit.MILLISECONDS.toNanos(latencyTargetMillis);
+        this.backoffRatio = backoffRatio;
+        this.limitBits = new AtomicLong(Double.doubleToLongBits(initialLimit));
+    }
+
+    /**
+     * @return true if a slot was taken; the caller must then call {@link #release(long, boolean)} exactly once
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= getLimit()) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(long latencyNanos, boolean success) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        while (true) {
+            long bits = limitBits.get();
+            double limit = Double.longBitsToDouble(bits);
+            double next;
+            if (!success || latencyNanos > latencyTargetNanos) {
+                next = Math.max(minLimit, limit * backoffRatio);
+            } else if (inFlightAtCompletion * 2 > limit) {
+                // Only grow when the current limit is the constraint, otherwise it drifts up during quiet periods
+                next = Math.min(maxLimit, limit + 1.0 / limit);
+            } else {
+                return;
+            }
+            if (next == limit || limitBits.compareAndSet(bits, Double.doubleToLongBits(next))) {
+                return;
+            }
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return (int) Double.longBitsToDouble(limitBits.get());
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+}
@@ -0,0 +1,59 @@
+package com.mortgage.mortgageportal.limiter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Sheds API requests with 429 before they reach security or a controller once the adaptive limit for their budget
+ * is reached. Expensive operations (unpaged lists, bulk reads) draw on their own, smaller budget so a burst of them
+ * cannot starve the cheap single-record reads and writes.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final AimdLimiter cheapLimiter;
+    private final AimdLimiter expensiveLimiter;
+    private final int retryAfterSeconds;
+
+    public ConcurrencyLimitFilter(AimdLimiter cheapLimiter, AimdLimiter expensiveLimiter, int retryAfterSeconds) {
+        this.cheapLimiter = cheapLimiter;
+        this.expensiveLimiter = expensiveLimiter;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        AimdLimiter limiter = isExpensive(request) ? expensiveLimiter : cheapLimiter;
+        if (!limiter.tryAcquire()) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("{\"errorCode\":\"TooManyRequests\",\"detail\":\"Server is at capacity, retry later\"}");
+            return;
+        }
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            filterChain.doFilter(request, response);
+            success = response.getStatus() < 500;
+        } finally {
+            limiter.release(System.nanoTime() - start, success);
+        }
+    }
+
+    static boolean isExpensive(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if ("GET".equals(request.getMethod()) && ("/api/v1/applications".equals(path) || "/api/v1/applications/".equals(path))) {
+            return true;
+        }
+        return path.endsWith("/batch") || "/api/v1/quotes/pending".equals(path) || path.startsWith("/api/v1/reports/");
+    }
+}
@@ -0,0 +1,29 @@
+package com.mortgage.mortgageportal.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/**
+ * AsyncAppender that records how many events it discards.
+ * The stock appender drops silently once the queue is full (neverBlock) or past the discarding threshold.
+ */
+public class CountingAsyncAppender extends AsyncAppender {
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        if (isStarted() && isNeverBlock() && getRemainingCapacity() == 0) {
+            LogDropCounters.queueFull();
+            return;
+        }
+        super.append(event);
+    }
+
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        boolean discardable = super.isDiscardable(event);
+        if (discardable) {
+            LogDropCounters.queueFull();
+        }
+        return discardable;
+    }
+}
@@ -0,0 +1,33 @@
+package com.mortgage.mortgageportal.logging;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Process-wide counters for log events that never reached an appender.
+ * Logback instantiates the filter and appender itself, outside of the Spring context,
+ * so the counts are kept here and bound to Micrometer by LoggingMetricsConfig.
+ */
+public final class LogDropCounters {
+
+    private static final LongAdder RATE_LIMITED = new LongAdder();
+    private static final LongAdder QUEUE_FULL = new LongAdder();
+
+    private LogDropCounters() {
+    }
+
+    static void rateLimited() {
+        RATE_LIMITED.increment();
+    }
+
+    static void queueFull() {
+        QUEUE_FULL.increment();
+    }
+
+    public static long rateLimitedCount() {
+        return RATE_LIMITED.sum();
+    }
+
+    public static long queueFullCount() {
+        return QUEUE_FULL.sum();
+    }
+}
@@ -0,0 +1,72 @@
+package com.mortgage.mortgageportal.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caps the number of events each logger may emit per second.
+ * Events at or above the exempt level (WARN by default) always pass, so failures are never sampled away.
+ */
+public class RateLimitingTurboFilter extends TurboFilter {
+
+    private final ConcurrentMap<String, AtomicLong> windows = new ConcurrentHashMap<>();
+
+    private int maxEventsPerSecond = 100;
+    private Level exemptLevel = Level.WARN;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // isXxxEnabled() checks arrive without a format and must not consume the budget
+        if (!isStarted() || format == null || level == null) {
+            return FilterReply.NEUTRAL;
+        }
+        if (level.isGreaterOrEqual(exemptLevel) || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        if (tryAcquire(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        LogDropCounters.rateLimited();
+        return FilterReply.DENY;
+    }
+
+    /**
+     * Fixed one-second window per logger, packed as (epochSecond << 32 | count) so it can be updated with a single CAS.
+     */
+    private boolean tryAcquire(String loggerName) {
+        AtomicLong window = windows.computeIfAbsent(loggerName, k -> new AtomicLong());
+        long nowSecond = System.currentTimeMillis() / 1000;
+        while (true) {
+            long current = window.get();
+            long second = current >>> 32;
+            int count = (int) current;
+            long next;
+            if (second == nowSecond) {
+                if (count >= maxEventsPerSecond) {
+                    return false;
+                }
+                next = current + 1;
+            } else {
+                next = (nowSecond << 32) | 1;
+            }
+            if (window.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    public void setMaxEventsPerSecond(int maxEventsPerSecond) {
+        this.maxEventsPerSecond = maxEventsPerSecond;
+    }
+
+    public void setExemptLevel(String exemptLevel) {
+        this.exemptLevel = Level.toLevel(exemptLevel, Level.WARN);
+    }
+}
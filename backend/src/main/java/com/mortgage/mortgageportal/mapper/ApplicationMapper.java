@@ -24,6 +24,8 @@ public class ApplicationMapper {
         dto.setLoanTermMonths(app.getLoanTermMonths());
         dto.setCreatedAt(app.getCreatedAt());
         dto.setUpdatedAt(app.getUpdatedAt());
+        dto.setRiskScore(app.getRiskScore());
+        dto.setSuggestedDecision(app.getSuggestedDecision());
         return dto;
     }
 }
\ No newline at end of file
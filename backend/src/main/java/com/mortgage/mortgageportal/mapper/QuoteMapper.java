@@ -0,0 +1,28 @@
+package com.mortgage.mortgageportal.mapper;
+
+import com.mortgage.mortgageportal.dto.QuoteResponseDTO;
+import com.mortgage.mortgageportal.pricing.Quote;
+
+import java.math.BigDecimal;
+
+public class QuoteMapper {
+    public static QuoteResponseDTO toResponseDTO(Quote quote) {
+        return QuoteResponseDTO.builder()
+                .amount(money(quote.principalCents()))
+                .loanTermMonths(quote.termMonths())
+                .annualRate(rate(quote.annualRateBps()))
+                .monthlyPayment(money(quote.monthlyPaymentCents()))
+                .finalPayment(money(quote.finalPaymentCents()))
+                .totalInterest(money(quote.totalInterestCents()))
+                .totalPaid(money(quote.totalPaidCents()))
+                .build();
+    }
+
+    public static BigDecimal money(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    public static BigDecimal rate(int bps) {
+        return BigDecimal.valueOf(bps, 2);
+    }
+}
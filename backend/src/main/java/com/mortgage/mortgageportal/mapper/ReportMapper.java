@@ -0,0 +1,56 @@
+package com.mortgage.mortgageportal.mapper;
+
+import com.mortgage.mortgageportal.dto.AmountBucketDTO;
+import com.mortgage.mortgageportal.dto.AmountDistributionDTO;
+import com.mortgage.mortgageportal.dto.MonthlyApprovalDTO;
+import com.mortgage.mortgageportal.dto.TermExposureDTO;
+import com.mortgage.mortgageportal.reporting.AmountDistribution;
+import com.mortgage.mortgageportal.reporting.MonthlyDecisions;
+import com.mortgage.mortgageportal.reporting.TermExposure;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.mortgage.mortgageportal.mapper.QuoteMapper.money;
+
+public class ReportMapper {
+    public static TermExposureDTO toResponseDTO(TermExposure exposure) {
+        return TermExposureDTO.builder()
+                .minTermMonths(exposure.minTermMonths())
+                .maxTermMonths(exposure.maxTermMonths() == Integer.MAX_VALUE ? null : exposure.maxTermMonths())
+                .applications(exposure.applications())
+                .totalAmount(money(exposure.totalCents()))
+                .build();
+    }
+
+    public static MonthlyApprovalDTO toResponseDTO(MonthlyDecisions decisions) {
+        double rate = decisions.approvalRate();
+        return MonthlyApprovalDTO.builder()
+                .month(decisions.month().toString())
+                .approved(decisions.approved())
+                .rejected(decisions.rejected())
+                .pending(decisions.pending())
+                .approvalRate(Double.isNaN(rate) ? null : rate)
+                .build();
+    }
+
+    public static AmountDistributionDTO toResponseDTO(AmountDistribution distribution) {
+        long[] counts = distribution.bucketCounts();
+        List<AmountBucketDTO> buckets = new ArrayList<>(counts.length);
+        for (int i = 0; i < counts.length; i++) {
+            long from = distribution.minCents() + i * distribution.bucketWidthCents();
+            buckets.add(AmountBucketDTO.builder()
+                    .from(money(from))
+                    .to(money(from + distribution.bucketWidthCents()))
+                    .count(counts[i])
+                    .build());
+        }
+        return AmountDistributionDTO.builder()
+                .count(distribution.count())
+                .min(money(distribution.minCents()))
+                .max(money(distribution.maxCents()))
+                .mean(money(distribution.meanCents()))
+                .buckets(buckets)
+                .build();
+    }
+}
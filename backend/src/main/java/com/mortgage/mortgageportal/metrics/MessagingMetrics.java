@@ -0,0 +1,55 @@
+package com.mortgage.mortgageportal.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Event publishing meters: Kafka send latency until the broker acks or the send fails, and how often publishing
+ * fell back to ActiveMQ. Tags come from fixed sets, never from topics or keys, so the series count is constant.
+ */
+@Component
+public class MessagingMetrics {
+
+    private final MeterRegistry registry;
+    private final Timer kafkaAcked;
+    private final Timer kafkaFailed;
+    private final Counter fallbackDelivered;
+    private final Counter fallbackFailed;
+
+    public MessagingMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.kafkaAcked = kafkaSendTimer("acked");
+        this.kafkaFailed = kafkaSendTimer("failed");
+        this.fallbackDelivered = fallbackCounter("delivered");
+        this.fallbackFailed = fallbackCounter("failed");
+    }
+
+    public Timer.Sample startKafkaSend() {
+        return Timer.start(registry);
+    }
+
+    public void kafkaSendCompleted(Timer.Sample sample, boolean acked) {
+        sample.stop(acked ? kafkaAcked : kafkaFailed);
+    }
+
+    public void fallbackToActiveMq(boolean delivered) {
+        (delivered ? fallbackDelivered : fallbackFailed).increment();
+    }
+
+    private Timer kafkaSendTimer(String outcome) {
+        return Timer.builder("messaging.kafka.send")
+                .tag("outcome", outcome)
+                .description("Kafka send latency until acknowledgement or failure")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private Counter fallbackCounter(String outcome) {
+        return Counter.builder("messaging.activemq.fallback")
+                .tag("outcome", outcome)
+                .description("Events published to ActiveMQ because the Kafka send failed")
+                .register(registry);
+    }
+}
@@ -0,0 +1,126 @@
+package com.mortgage.mortgageportal.metrics;
+
+import com.mortgage.mortgageportal.dto.PipelineStatsDTO;
+import com.mortgage.mortgageportal.enums.ApplicationStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Live pipeline counters, maintained incrementally by the services on every state transition.
+ * Totals are LongAdders so concurrent writers never contend on one cache line; rates come from fixed ring buffers.
+ * A snapshot costs the same whether there are ten applications or ten million.
+ */
+@Component
+public class PipelineStats {
+
+    private static final ApplicationStatus[] STATUSES = ApplicationStatus.values();
+
+    private final LongSupplier clock;
+
+    private final LongAdder[] byStatus = new LongAdder[STATUSES.length];
+    private final LongAdder created = new LongAdder();
+    private final LongAdder decided = new LongAdder();
+    private final Map<UUID, LongAdder> decisionsByOfficer = new ConcurrentHashMap<>();
+
+    private final LongAdder turnaroundTotalMillis = new LongAdder();
+    private final LongAccumulator turnaroundMaxMillis = new LongAccumulator(Math::max, 0);
+
+    // 60 one-second buckets and 60 one-minute buckets
+    private final RateWindow createdPerSecond = new RateWindow(1_000, 60);
+    private final RateWindow createdPerMinute = new RateWindow(60_000, 60);
+    private final RateWindow decidedPerSecond = new RateWindow(1_000, 60);
+    private final RateWindow decidedPerMinute = new RateWindow(60_000, 60);
+
+    public PipelineStats() {
+        this(System::currentTimeMillis);
+    }
+
+    PipelineStats(LongSupplier clock) {
+        this.clock = clock;
+        for (int i = 0; i < byStatus.length; i++) {
+            byStatus[i] = new LongAdder();
+        }
+    }
+
+    public void applicationCreated() {
+        long now = clock.getAsLong();
+        created.increment();
+        byStatus[ApplicationStatus.PENDING.ordinal()].increment();
+        createdPerSecond.increment(now);
+        createdPerMinute.increment(now);
+    }
+
+    public void applicationDeleted(ApplicationStatus status) {
+        byStatus[status.ordinal()].decrement();
+    }
+
+    /**
+     * Adjusts the per-status counts for an application rebuilt from the journal, without counting it as a new
+     * submission or decision. previous is null when the application was not in memory yet.
+     */
+    public void applicationRestored(ApplicationStatus previous, ApplicationStatus current) {
+        if (previous != null) {
+            byStatus[previous.ordinal()].decrement();
+        }
+        if (current != null) {
+            byStatus[current.ordinal()].increment();
+        }
+    }
+
+    public void applicationDecided(ApplicationStatus from, ApplicationStatus to, UUID officerId, long turnaroundMillis) {
+        long now = clock.getAsLong();
+        byStatus[from.ordinal()].decrement();
+        byStatus[to.ordinal()].increment();
+        decided.increment();
+        decisionsByOfficer.computeIfAbsent(officerId, k -> new LongAdder()).increment();
+        turnaroundTotalMillis.add(turnaroundMillis);
+        turnaroundMaxMillis.accumulate(turnaroundMillis);
+        decidedPerSecond.increment(now);
+        decidedPerMinute.increment(now);
+    }
+
+    public long getCount(ApplicationStatus status) {
+        return byStatus[status.ordinal()].sum();
+    }
+
+    public long getCreatedCount() {
+        return created.sum();
+    }
+
+    public long getDecidedCount() {
+        return decided.sum();
+    }
+
+    public PipelineStatsDTO snapshot() {
+        long now = clock.getAsLong();
+        Map<ApplicationStatus, Long> statusCounts = new EnumMap<>(ApplicationStatus.class);
+        for (ApplicationStatus status : STATUSES) {
+            statusCounts.put(status, getCount(status));
+        }
+        Map<UUID, Long> officers = new LinkedHashMap<>();
+        decisionsByOfficer.forEach((officerId, count) -> officers.put(officerId, count.sum()));
+
+        long decisions = decided.sum();
+        return PipelineStatsDTO.builder()
+                .applicationsByStatus(statusCounts)
+                .applicationsCreated(created.sum())
+                .createdLastSecond(createdPerSecond.lastCompleted(now))
+                .createdLastMinute(createdPerSecond.total(now))
+                .createdLastHour(createdPerMinute.total(now))
+                .decisionsMade(decisions)
+                .decisionsLastMinute(decidedPerSecond.total(now))
+                .decisionsLastHour(decidedPerMinute.total(now))
+                .decisionsByOfficer(officers)
+                .averageTurnaroundMillis(decisions == 0 ? 0 : turnaroundTotalMillis.sum() / decisions)
+                .maxTurnaroundMillis(turnaroundMaxMillis.get())
+                .build();
+    }
+}
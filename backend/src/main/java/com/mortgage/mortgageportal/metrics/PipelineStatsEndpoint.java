@@ -0,0 +1,20 @@
+package com.mortgage.mortgageportal.metrics;
+
+import com.mortgage.mortgageportal.dto.PipelineStatsDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+@Component
+@Endpoint(id = "pipeline")
+@RequiredArgsConstructor
+public class PipelineStatsEndpoint {
+
+    private final PipelineStats pipelineStats;
+
+    @ReadOperation
+    public PipelineStatsDTO pipeline() {
+        return pipelineStats.snapshot();
+    }
+}
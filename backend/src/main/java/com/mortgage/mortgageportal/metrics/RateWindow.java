@@ -0,0 +1,64 @@
+package com.mortgage.mortgageportal.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Event counts over a sliding window, kept in a fixed ring of time buckets.
+ * Each slot remembers which bucket epoch it holds; a slot still tagged with an old epoch is treated as empty
+ * and recycled by the first writer to reach it, so memory and read cost never depend on how many events arrived.
+ * An increment racing with the recycle of its own slot can be lost; at one recycle per bucket that is noise.
+ */
+public class RateWindow {
+
+    private final long bucketMillis;
+    private final int buckets;
+    private final AtomicLongArray counts;
+    private final AtomicLongArray epochs;
+
+    public RateWindow(long bucketMillis, int buckets) {
+        if (bucketMillis < 1 || buckets < 1) {
+            throw new IllegalArgumentException("bucketMillis and buckets must be positive");
+        }
+        this.bucketMillis = bucketMillis;
+        this.buckets = buckets;
+        this.counts = new AtomicLongArray(buckets);
+        this.epochs = new AtomicLongArray(buckets);
+        for (int i = 0; i < buckets; i++) {
+            epochs.set(i, -1);
+        }
+    }
+
+    public void increment(long nowMillis) {
+        long epoch = nowMillis / bucketMillis;
+        int slot = (int) (epoch % buckets);
+        long seen = epochs.get(slot);
+        if (seen != epoch && epochs.compareAndSet(slot, seen, epoch)) {
+            counts.set(slot, 0);
+        }
+        counts.incrementAndGet(slot);
+    }
+
+    /**
+     * Count in the most recent fully elapsed bucket, e.g. "last second" for a one-second window.
+     */
+    public long lastCompleted(long nowMillis) {
+        long epoch = nowMillis / bucketMillis - 1;
+        int slot = (int) (epoch % buckets);
+        return epochs.get(slot) == epoch ? counts.get(slot) : 0;
+    }
+
+    /**
+     * Sum of the current bucket and the ones before it, covering the full window length.
+     */
+    public long total(long nowMillis) {
+        long current = nowMillis / bucketMillis;
+        long sum = 0;
+        for (int slot = 0; slot < buckets; slot++) {
+            long epoch = epochs.get(slot);
+            if (epoch > current - buckets && epoch <= current) {
+                sum += counts.get(slot);
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,183 @@
+package com.mortgage.mortgageportal.pricing;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mortgage.mortgageportal.entities.Application;
+import com.mortgage.mortgageportal.exception.BadRequestException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fixed-rate annuity pricing. All arithmetic is on long cents with one half-up rounding of the monthly interest,
+ * which is how a servicer posts it; the monthly payment is the closed-form annuity payment rounded to the cent and the
+ * last payment absorbs the residue. No BigDecimal is created below the API boundary.
+ * Annuity factors are memoized per (term, rate) and whole quotes per (amount, term, rate), since calculators
+ * and officers mostly ask about the same round amounts and standard terms.
+ */
+@Component
+public class AmortizationEngine {
+
+    public static final int MAX_TERM_MONTHS = 600;
+    public static final int MAX_RATE_BPS = 10_000;
+
+    // Above this the factor table is left alone; arbitrary rate parameters cannot grow it without bound
+    private static final int MAX_MEMOIZED_FACTORS = 50_000;
+
+    private final RateTable rateTable;
+    private final double maxDebtToIncome;
+    private final Cache<QuoteKey, Quote> quotes;
+    private final Map<Long, Double> annuityFactors = new ConcurrentHashMap<>();
+
+    public AmortizationEngine(@Value("${pricing.rate-table:120=5.25,180=5.50,240=5.75,360=6.00,600=6.50}") String rateTable,
+                              @Value("${pricing.max-debt-to-income:0.36}") double maxDebtToIncome,
+                              @Value("${pricing.quote-cache-size:100000}") long quoteCacheSize) {
+        this.rateTable = RateTable.parse(rateTable);
+        this.maxDebtToIncome = maxDebtToIncome;
+        this.quotes = Caffeine.newBuilder()
+                .maximumSize(quoteCacheSize)
+                .recordStats()
+                .build();
+    }
+
+    public Cache<?, Quote> getQuoteCache() {
+        return quotes;
+    }
+
+    public int rateBpsFor(int termMonths) {
+        return rateTable.rateBpsFor(termMonths);
+    }
+
+    public Quote quote(long principalCents, int termMonths, int annualRateBps) {
+        validate(principalCents, termMonths, annualRateBps);
+        return quotes.get(new QuoteKey(principalCents, termMonths, annualRateBps),
+                key -> price(key.principalCents(), key.termMonths(), key.annualRateBps()));
+    }
+
+    public AmortizationSchedule schedule(long principalCents, int termMonths, int annualRateBps) {
+        validate(principalCents, termMonths, annualRateBps);
+        double monthlyRate = monthlyRate(annualRateBps);
+        long payment = Math.round(principalCents * annuityFactor(termMonths, annualRateBps));
+
+        long[] payments = new long[termMonths];
+        long[] principals = new long[termMonths];
+        long[] interests = new long[termMonths];
+        long[] balances = new long[termMonths];
+        long balance = principalCents;
+        long totalInterest = 0;
+        for (int month = 0; month < termMonths; month++) {
+            long interest = Math.round(balance * monthlyRate);
+            long principal = month == termMonths - 1 ? balance : Math.min(payment - interest, balance);
+            balance -= principal;
+            totalInterest += interest;
+            payments[month] = principal + interest;
+            principals[month] = principal;
+            interests[month] = interest;
+            balances[month] = balance;
+        }
+        Quote quote = new Quote(principalCents, termMonths, annualRateBps, payment, payments[termMonths - 1], totalInterest);
+        return new AmortizationSchedule(quote, payments, principals, interests, balances);
+    }
+
+    /**
+     * Largest principal whose monthly payment keeps total debt service within the configured debt-to-income ratio.
+     */
+    public long maxAffordablePrincipalCents(long monthlyIncomeCents, long monthlyDebtCents, int termMonths, int annualRateBps) {
+        validate(1, termMonths, annualRateBps);
+        long budget = (long) Math.floor(monthlyIncomeCents * maxDebtToIncome) - monthlyDebtCents;
+        if (budget <= 0) {
+            return 0;
+        }
+        double factor = annuityFactor(termMonths, annualRateBps);
+        long principal = (long) Math.floor(budget / factor);
+        // Payment rounding can push the exact inverse one cent over budget
+        while (principal > 0 && Math.round(principal * factor) > budget) {
+            principal--;
+        }
+        return principal;
+    }
+
+    /**
+     * Prices every application in parallel on the common fork-join pool; applications without a usable amount or term
+     * are skipped. Output order follows the input.
+     */
+    public List<ApplicationQuote> priceAll(List<Application> applications) {
+        return applications.parallelStream()
+                .filter(AmortizationEngine::isPriceable)
+                .map(app -> {
+                    int term = app.getLoanTermMonths();
+                    return new ApplicationQuote(app.getId(), quote(toCents(app.getAmount()), term, rateBpsFor(term)));
+                })
+                .toList();
+    }
+
+    public static long toCents(BigDecimal amount) {
+        try {
+            return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            throw new BadRequestException("Amount is out of range");
+        }
+    }
+
+    private static boolean isPriceable(Application app) {
+        return app.getAmount() != null && app.getAmount().signum() > 0
+                && app.getAmount().precision() - app.getAmount().scale() <= 15
+                && app.getLoanTermMonths() != null
+                && app.getLoanTermMonths() >= 1 && app.getLoanTermMonths() <= MAX_TERM_MONTHS;
+    }
+
+    private Quote price(long principalCents, int termMonths, int annualRateBps) {
+        double monthlyRate = monthlyRate(annualRateBps);
+        long payment = Math.round(principalCents * annuityFactor(termMonths, annualRateBps));
+        long balance = principalCents;
+        long totalInterest = 0;
+        long finalPayment = payment;
+        for (int month = 0; month < termMonths; month++) {
+            long interest = Math.round(balance * monthlyRate);
+            long principal = month == termMonths - 1 ? balance : Math.min(payment - interest, balance);
+            balance -= principal;
+            totalInterest += interest;
+            finalPayment = principal + interest;
+        }
+        return new Quote(principalCents, termMonths, annualRateBps, payment, finalPayment, totalInterest);
+    }
+
+    // Payment per unit of principal: r / (1 - (1 + r)^-n), or 1/n at zero rate
+    private double annuityFactor(int termMonths, int annualRateBps) {
+        long key = ((long) termMonths << 32) | annualRateBps;
+        Double cached = annuityFactors.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        double r = monthlyRate(annualRateBps);
+        double factor = r == 0 ? 1.0 / termMonths : r / -Math.expm1(-termMonths * Math.log1p(r));
+        if (annuityFactors.size() < MAX_MEMOIZED_FACTORS) {
+            annuityFactors.put(key, factor);
+        }
+        return factor;
+    }
+
+    private static double monthlyRate(int annualRateBps) {
+        return annualRateBps / 120_000.0;
+    }
+
+    private static void validate(long principalCents, int termMonths, int annualRateBps) {
+        if (principalCents <= 0) {
+            throw new BadRequestException("Amount must be positive");
+        }
+        if (termMonths < 1 || termMonths > MAX_TERM_MONTHS) {
+            throw new BadRequestException("Term must be between 1 and " + MAX_TERM_MONTHS + " months");
+        }
+        if (annualRateBps < 0 || annualRateBps > MAX_RATE_BPS) {
+            throw new BadRequestException("Annual rate must be between 0 and " + MAX_RATE_BPS + " basis points");
+        }
+    }
+
+    private record QuoteKey(long principalCents, int termMonths, int annualRateBps) {
+    }
+}
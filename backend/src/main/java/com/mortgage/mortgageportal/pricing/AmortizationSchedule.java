@@ -0,0 +1,46 @@
+package com.mortgage.mortgageportal.pricing;
+
+/**
+ * Month-by-month schedule held in parallel primitive arrays, index 0 being the first payment.
+ * All amounts are in cents.
+ */
+public final class AmortizationSchedule {
+
+    private final Quote quote;
+    private final long[] paymentCents;
+    private final long[] principalCents;
+    private final long[] interestCents;
+    private final long[] balanceCents;
+
+    AmortizationSchedule(Quote quote, long[] paymentCents, long[] principalCents, long[] interestCents, long[] balanceCents) {
+        this.quote = quote;
+        this.paymentCents = paymentCents;
+        this.principalCents = principalCents;
+        this.interestCents = interestCents;
+        this.balanceCents = balanceCents;
+    }
+
+    public Quote quote() {
+        return quote;
+    }
+
+    public int months() {
+        return paymentCents.length;
+    }
+
+    public long paymentCents(int month) {
+        return paymentCents[month];
+    }
+
+    public long principalCents(int month) {
+        return principalCents[month];
+    }
+
+    public long interestCents(int month) {
+        return interestCents[month];
+    }
+
+    public long balanceCents(int month) {
+        return balanceCents[month];
+    }
+}
@@ -0,0 +1,6 @@
+package com.mortgage.mortgageportal.pricing;
+
+import java.util.UUID;
+
+public record ApplicationQuote(UUID applicationId, Quote quote) {
+}
@@ -0,0 +1,13 @@
+package com.mortgage.mortgageportal.pricing;
+
+/**
+ * Price of a fully amortizing loan. Money is in cents; the last payment absorbs rounding, so
+ * totalPaid = principal + totalInterest exactly.
+ */
+public record Quote(long principalCents, int termMonths, int annualRateBps,
+                    long monthlyPaymentCents, long finalPaymentCents, long totalInterestCents) {
+
+    public long totalPaidCents() {
+        return principalCents + totalInterestCents;
+    }
+}
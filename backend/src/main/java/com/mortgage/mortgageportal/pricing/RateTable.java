@@ -0,0 +1,49 @@
+package com.mortgage.mortgageportal.pricing;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * Annual rate by term band, parsed from "maxTermMonths=annualPercent" pairs such as "120=5.25,360=6.00".
+ * A term uses the first band whose maximum it does not exceed; terms beyond the last band use the last rate.
+ */
+public final class RateTable {
+
+    private final int[] maxTerms;
+    private final int[] ratesBps;
+
+    private RateTable(int[] maxTerms, int[] ratesBps) {
+        this.maxTerms = maxTerms;
+        this.ratesBps = ratesBps;
+    }
+
+    public static RateTable parse(String spec) {
+        String[] bands = spec.split(",");
+        long[] packed = new long[bands.length];
+        for (int i = 0; i < bands.length; i++) {
+            String[] parts = bands[i].trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid rate band '" + bands[i] + "', expected maxTermMonths=annualPercent");
+            }
+            int maxTerm = Integer.parseInt(parts[0].trim());
+            int bps = new BigDecimal(parts[1].trim()).movePointRight(2).intValueExact();
+            packed[i] = ((long) maxTerm << 32) | bps;
+        }
+        Arrays.sort(packed);
+        int[] maxTerms = new int[packed.length];
+        int[] ratesBps = new int[packed.length];
+        for (int i = 0; i < packed.length; i++) {
+            maxTerms[i] = (int) (packed[i] >>> 32);
+            ratesBps[i] = (int) packed[i];
+        }
+        return new RateTable(maxTerms, ratesBps);
+    }
+
+    public int rateBpsFor(int termMonths) {
+        int index = Arrays.binarySearch(maxTerms, termMonths);
+        if (index < 0) {
+            index = Math.min(-index - 1, maxTerms.length - 1);
+        }
+        return ratesBps[index];
+    }
+}
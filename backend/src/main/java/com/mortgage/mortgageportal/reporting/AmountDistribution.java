@@ -0,0 +1,17 @@
+package com.mortgage.mortgageportal.reporting;
+
+/**
+ * Equal-width histogram of amounts in cents. Bucket i covers [minCents + i * bucketWidthCents,
+ * minCents + (i + 1) * bucketWidthCents); the width is chosen so maxCents falls inside the last bucket.
+ */
+public record AmountDistribution(long count, long minCents, long maxCents, long sumCents,
+                                 long bucketWidthCents, long[] bucketCounts) {
+
+    public static AmountDistribution empty() {
+        return new AmountDistribution(0, 0, 0, 0, 0, new long[0]);
+    }
+
+    public long meanCents() {
+        return count == 0 ? 0 : sumCents / count;
+    }
+}
@@ -0,0 +1,294 @@
+package com.mortgage.mortgageportal.reporting;
+
+import com.mortgage.mortgageportal.entities.Application;
+import com.mortgage.mortgageportal.enums.ApplicationStatus;
+
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable column-per-field copy of the applications, held in direct buffers outside the heap:
+ * status as a byte (enum ordinal), amount as long cents, createdAt as epoch millis (UTC), term as an int and the
+ * owner as an int reference into a dictionary of user ids. Reports scan the columns in parallel chunks with
+ * absolute reads, so they touch no Application, BigDecimal or LocalDateTime and allocate only per-chunk accumulators.
+ * Months are UTC calendar months.
+ */
+public final class ColumnarSnapshot {
+
+    static final int CHUNK_ROWS = 1 << 16;
+
+    private static final ApplicationStatus[] STATUSES = ApplicationStatus.values();
+
+    private final Instant takenAt;
+    private final int rows;
+    private final ByteBuffer statuses;
+    private final LongBuffer amountCents;
+    private final LongBuffer createdAtMillis;
+    private final IntBuffer termMonths;
+    private final IntBuffer userRefs;
+    private final UUID[] users;
+    private final long minCreatedAtMillis;
+    private final long maxCreatedAtMillis;
+    private final long offHeapBytes;
+
+    private ColumnarSnapshot(Instant takenAt, int rows, ByteBuffer statuses, LongBuffer amountCents,
+                             LongBuffer createdAtMillis, IntBuffer termMonths, IntBuffer userRefs, UUID[] users,
+                             long minCreatedAtMillis, long maxCreatedAtMillis, long offHeapBytes) {
+        this.takenAt = takenAt;
+        this.rows = rows;
+        this.statuses = statuses;
+        this.amountCents = amountCents;
+        this.createdAtMillis = createdAtMillis;
+        this.termMonths = termMonths;
+        this.userRefs = userRefs;
+        this.users = users;
+        this.minCreatedAtMillis = minCreatedAtMillis;
+        this.maxCreatedAtMillis = maxCreatedAtMillis;
+        this.offHeapBytes = offHeapBytes;
+    }
+
+    public static ColumnarSnapshot empty() {
+        return build(List.of(), Instant.EPOCH);
+    }
+
+    /**
+     * Copies the applications into fresh columns. Rows missing any reported field are left out.
+     */
+    public static ColumnarSnapshot build(Collection<Application> applications, Instant takenAt) {
+        int capacity = applications.size();
+        ByteBuffer statuses = ByteBuffer.allocateDirect(capacity);
+        LongBuffer amountCents = allocate(capacity, Long.BYTES).asLongBuffer();
+        LongBuffer createdAtMillis = allocate(capacity, Long.BYTES).asLongBuffer();
+        IntBuffer termMonths = allocate(capacity, Integer.BYTES).asIntBuffer();
+        IntBuffer userRefs = allocate(capacity, Integer.BYTES).asIntBuffer();
+        Map<UUID, Integer> dictionary = new HashMap<>();
+        List<UUID> users = new ArrayList<>();
+
+        int row = 0;
+        long minCreated = Long.MAX_VALUE;
+        long maxCreated = Long.MIN_VALUE;
+        for (Application app : applications) {
+            if (row == capacity) {
+                break;
+            }
+            if (app.getStatus() == null || app.getAmount() == null || app.getCreatedAt() == null
+                    || app.getLoanTermMonths() == null || app.getUser() == null) {
+                continue;
+            }
+            long created = app.getCreatedAt().toInstant(ZoneOffset.UTC).toEpochMilli();
+            int userRef = dictionary.computeIfAbsent(app.getUser().getId(), id -> {
+                users.add(id);
+                return users.size() - 1;
+            });
+            statuses.put(row, (byte) app.getStatus().ordinal());
+            amountCents.put(row, app.getAmount().movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValue());
+            createdAtMillis.put(row, created);
+            termMonths.put(row, app.getLoanTermMonths());
+            userRefs.put(row, userRef);
+            minCreated = Math.min(minCreated, created);
+            maxCreated = Math.max(maxCreated, created);
+            row++;
+        }
+        long offHeapBytes = (long) capacity * (1 + Long.BYTES + Long.BYTES + Integer.BYTES + Integer.BYTES);
+        return new ColumnarSnapshot(takenAt, row, statuses, amountCents, createdAtMillis, termMonths, userRefs,
+                users.toArray(UUID[]::new), minCreated, maxCreated, offHeapBytes);
+    }
+
+    public Instant takenAt() {
+        return takenAt;
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    /**
+     * Applicants with at least one application in the status, counted over the dictionary-encoded owner column.
+     * A null status means any status.
+     */
+    public int distinctApplicants(ApplicationStatus status) {
+        if (status == null) {
+            return users.length;
+        }
+        int wanted = status.ordinal();
+        BitSet seen = aggregate(() -> new BitSet(users.length), (acc, from, to) -> {
+            for (int i = from; i < to; i++) {
+                if (statuses.get(i) == wanted) {
+                    acc.set(userRefs.get(i));
+                }
+            }
+        }, (a, b) -> {
+            a.or(b);
+            return a;
+        });
+        return seen.cardinality();
+    }
+
+    public long count(ApplicationStatus status) {
+        int wanted = status == null ? -1 : status.ordinal();
+        long[] count = aggregate(() -> new long[1], (acc, from, to) -> {
+            for (int i = from; i < to; i++) {
+                if (wanted < 0 || statuses.get(i) == wanted) {
+                    acc[0]++;
+                }
+            }
+        }, ColumnarSnapshot::sum);
+        return count[0];
+    }
+
+    public long offHeapBytes() {
+        return offHeapBytes;
+    }
+
+    /**
+     * Count and summed amount per term bucket. Bucket i holds terms up to and including upperBounds[i]
+     * (ascending); one more open-ended bucket holds the rest. A null status means every status.
+     */
+    public List<TermExposure> exposureByTerm(int[] upperBounds, ApplicationStatus status) {
+        int buckets = upperBounds.length + 1;
+        int wanted = status == null ? -1 : status.ordinal();
+        long[] totals = aggregate(() -> new long[buckets * 2], (acc, from, to) -> {
+            for (int i = from; i < to; i++) {
+                if (wanted >= 0 && statuses.get(i) != wanted) {
+                    continue;
+                }
+                int term = termMonths.get(i);
+                int bucket = 0;
+                while (bucket < upperBounds.length && term > upperBounds[bucket]) {
+                    bucket++;
+                }
+                acc[bucket]++;
+                acc[buckets + bucket] += amountCents.get(i);
+            }
+        }, ColumnarSnapshot::sum);
+
+        List<TermExposure> result = new ArrayList<>(buckets);
+        int min = 0;
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            int max = bucket < upperBounds.length ? upperBounds[bucket] : Integer.MAX_VALUE;
+            result.add(new TermExposure(min, max, totals[bucket], totals[buckets + bucket]));
+            min = max + 1;
+        }
+        return result;
+    }
+
+    /**
+     * Approved, rejected and pending counts per creation month, every month from the oldest to the newest row.
+     */
+    public List<MonthlyDecisions> decisionsByMonth() {
+        if (rows == 0) {
+            return List.of();
+        }
+        YearMonth first = monthOf(minCreatedAtMillis);
+        int months = (int) (first.until(monthOf(maxCreatedAtMillis), ChronoUnit.MONTHS) + 1);
+        long[] monthStarts = new long[months];
+        for (int m = 0; m < months; m++) {
+            monthStarts[m] = first.plusMonths(m).atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC).toEpochMilli();
+        }
+
+        // Laid out status-major: counts[status * months + month]
+        long[] counts = aggregate(() -> new long[STATUSES.length * months], (acc, from, to) -> {
+            for (int i = from; i < to; i++) {
+                int found = Arrays.binarySearch(monthStarts, createdAtMillis.get(i));
+                int month = found >= 0 ? found : -found - 2;
+                acc[statuses.get(i) * months + month]++;
+            }
+        }, ColumnarSnapshot::sum);
+
+        List<MonthlyDecisions> result = new ArrayList<>(months);
+        for (int m = 0; m < months; m++) {
+            result.add(new MonthlyDecisions(first.plusMonths(m),
+                    counts[ApplicationStatus.APPROVED.ordinal() * months + m],
+                    counts[ApplicationStatus.REJECTED.ordinal() * months + m],
+                    counts[ApplicationStatus.PENDING.ordinal() * months + m]));
+        }
+        return result;
+    }
+
+    /**
+     * Equal-width histogram of amounts between the smallest and largest one. A null status means every status.
+     */
+    public AmountDistribution amountDistribution(ApplicationStatus status, int bucketCount) {
+        int wanted = status == null ? -1 : status.ordinal();
+        // count, sum, min, max
+        long[] range = aggregate(() -> new long[]{0, 0, Long.MAX_VALUE, Long.MIN_VALUE}, (acc, from, to) -> {
+            for (int i = from; i < to; i++) {
+                if (wanted >= 0 && statuses.get(i) != wanted) {
+                    continue;
+                }
+                long amount = amountCents.get(i);
+                acc[0]++;
+                acc[1] += amount;
+                acc[2] = Math.min(acc[2], amount);
+                acc[3] = Math.max(acc[3], amount);
+            }
+        }, (a, b) -> new long[]{a[0] + b[0], a[1] + b[1], Math.min(a[2], b[2]), Math.max(a[3], b[3])});
+        if (range[0] == 0) {
+            return AmountDistribution.empty();
+        }
+
+        long min = range[2];
+        long max = range[3];
+        long width = Math.max(1, (max - min) / bucketCount + 1);
+        long[] histogram = aggregate(() -> new long[bucketCount], (acc, from, to) -> {
+            for (int i = from; i < to; i++) {
+                if (wanted >= 0 && statuses.get(i) != wanted) {
+                    continue;
+                }
+                acc[(int) Math.min((amountCents.get(i) - min) / width, bucketCount - 1)]++;
+            }
+        }, ColumnarSnapshot::sum);
+        return new AmountDistribution(range[0], min, max, range[1], width, histogram);
+    }
+
+    // Splits the rows into fixed chunks, scans them on the common pool and merges the per-chunk accumulators
+    private <A> A aggregate(Supplier<A> init, ChunkScan<A> scan, BinaryOperator<A> merge) {
+        int chunks = (rows + CHUNK_ROWS - 1) / CHUNK_ROWS;
+        return IntStream.range(0, chunks).parallel()
+                .mapToObj(chunk -> {
+                    A acc = init.get();
+                    scan.accumulate(acc, chunk * CHUNK_ROWS, Math.min(rows, (chunk + 1) * CHUNK_ROWS));
+                    return acc;
+                })
+                .reduce(merge)
+                .orElseGet(init);
+    }
+
+    private static long[] sum(long[] a, long[] b) {
+        for (int i = 0; i < a.length; i++) {
+            a[i] += b[i];
+        }
+        return a;
+    }
+
+    private static ByteBuffer allocate(int rows, int width) {
+        return ByteBuffer.allocateDirect(rows * width).order(ByteOrder.nativeOrder());
+    }
+
+    private static YearMonth monthOf(long epochMillis) {
+        return YearMonth.from(Instant.ofEpochMilli(epochMillis).atOffset(ZoneOffset.UTC));
+    }
+
+    @FunctionalInterface
+    private interface ChunkScan<A> {
+        void accumulate(A acc, int from, int to);
+    }
+}
@@ -0,0 +1,17 @@
+package com.mortgage.mortgageportal.reporting;
+
+import java.time.YearMonth;
+
+/**
+ * Outcome counts for applications created in one month.
+ */
+public record MonthlyDecisions(YearMonth month, long approved, long rejected, long pending) {
+
+    /**
+     * Share of decided applications that were approved, or NaN while nothing in the month is decided.
+     */
+    public double approvalRate() {
+        long decided = approved + rejected;
+        return decided == 0 ? Double.NaN : (double) approved / decided;
+    }
+}
@@ -0,0 +1,43 @@
+package com.mortgage.mortgageportal.reporting;
+
+import com.mortgage.mortgageportal.entities.Application;
+import com.mortgage.mortgageportal.service.ApplicationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Holds the current columnar snapshot and rebuilds it on a fixed delay. Readers take whichever snapshot is
+ * current; the replaced one's direct buffers are released once nothing references it.
+ * Reports are therefore up to one refresh interval stale, and say when their snapshot was taken.
+ */
+@Component
+@Slf4j
+public class PortfolioSnapshots {
+
+    private final ApplicationService applicationService;
+
+    private volatile ColumnarSnapshot current = ColumnarSnapshot.empty();
+
+    public PortfolioSnapshots(ApplicationService applicationService) {
+        this.applicationService = applicationService;
+    }
+
+    public ColumnarSnapshot current() {
+        return current;
+    }
+
+    @Scheduled(initialDelayString = "${reporting.snapshot.initial-delay:PT10S}",
+            fixedDelayString = "${reporting.snapshot.refresh-interval:PT1M}")
+    public void refresh() {
+        long start = System.nanoTime();
+        List<Application> applications = applicationService.listApplications(null, null, null, null);
+        ColumnarSnapshot snapshot = ColumnarSnapshot.build(applications, Instant.now());
+        current = snapshot;
+        log.debug("Rebuilt portfolio snapshot: {} rows, {} bytes off-heap in {} ms",
+                snapshot.rows(), snapshot.offHeapBytes(), (System.nanoTime() - start) / 1_000_000);
+    }
+}
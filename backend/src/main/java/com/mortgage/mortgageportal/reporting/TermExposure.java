@@ -0,0 +1,8 @@
+package com.mortgage.mortgageportal.reporting;
+
+/**
+ * Applications whose term falls in [minTermMonths, maxTermMonths] and their summed amount in cents.
+ * maxTermMonths is Integer.MAX_VALUE for the open-ended last bucket.
+ */
+public record TermExposure(int minTermMonths, int maxTermMonths, long applications, long totalCents) {
+}
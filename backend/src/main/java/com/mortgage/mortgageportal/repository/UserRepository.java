@@ -0,0 +1,16 @@
+package com.mortgage.mortgageportal.repository;
+
+import com.mortgage.mortgageportal.entities.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface UserRepository extends JpaRepository<User, UUID> {
+    Optional<User> findByEmail(String email);
+    List<User> findByEmailIn(Collection<String> emails);
+}
@@ -0,0 +1,8 @@
+package com.mortgage.mortgageportal.rules;
+
+/**
+ * Everything the rules look at, gathered once per application so compiled rules only touch primitives.
+ */
+public record ApplicationFacts(long amountCents, int termMonths, boolean identityVerified,
+                               int otherOpenApplications, int priorRejections, int documents) {
+}
@@ -0,0 +1,10 @@
+package com.mortgage.mortgageportal.rules;
+
+import com.mortgage.mortgageportal.enums.DecisionStatus;
+
+/**
+ * @param score      risk score from 0 (clean) to 100
+ * @param suggestion suggested decision, or null when the score falls between the thresholds and needs a manual review
+ */
+public record Assessment(int score, DecisionStatus suggestion) {
+}
@@ -0,0 +1,144 @@
+package com.mortgage.mortgageportal.rules;
+
+import com.mortgage.mortgageportal.dto.UnderwritingRulesDTO;
+import com.mortgage.mortgageportal.enums.DecisionStatus;
+import com.mortgage.mortgageportal.pricing.AmortizationEngine;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * A rule set compiled into two fused functions: one knock-out predicate and one additive risk scorer.
+ * Configuration is resolved at compile time (the amount limit per term becomes a dense array indexed by term, disabled
+ * rules are dropped), so evaluating an application is a handful of primitive comparisons with no lookups,
+ * no rule list iteration and no allocation beyond the result.
+ */
+public final class CompiledRules {
+
+    public static final int MAX_SCORE = 100;
+
+    private static final int UNVERIFIED_IDENTITY_POINTS = 30;
+    private static final int NEAR_LIMIT_POINTS = 20;
+    private static final int OPEN_APPLICATIONS_POINTS = 30;
+    private static final int PRIOR_REJECTION_POINTS = 25;
+    private static final int MISSING_DOCUMENTS_POINTS = 40;
+
+    private final UnderwritingRulesDTO source;
+    private final Predicate<ApplicationFacts> knockOut;
+    private final ToIntFunction<ApplicationFacts> scorer;
+    private final int approveBelow;
+    private final int rejectAtOrAbove;
+
+    private CompiledRules(UnderwritingRulesDTO source, Predicate<ApplicationFacts> knockOut,
+                          ToIntFunction<ApplicationFacts> scorer) {
+        this.source = source;
+        this.knockOut = knockOut;
+        this.scorer = scorer;
+        this.approveBelow = source.getApproveBelowScore();
+        this.rejectAtOrAbove = source.getRejectAtOrAboveScore();
+    }
+
+    public static CompiledRules compile(UnderwritingRulesDTO rules) {
+        if (rules.getApproveBelowScore() > rules.getRejectAtOrAboveScore()) {
+            throw new IllegalArgumentException("approveBelowScore must not exceed rejectAtOrAboveScore");
+        }
+        Map<Integer, BigDecimal> bands = rules.getMaxAmountByTerm();
+        if (bands == null || bands.isEmpty()) {
+            throw new IllegalArgumentException("maxAmountByTerm must define at least one term band");
+        }
+        bands.forEach((term, maxAmount) -> {
+            if (term == null || term < 1) {
+                throw new IllegalArgumentException("maxAmountByTerm terms must be at least 1 month, got " + term);
+            }
+            if (maxAmount == null || maxAmount.signum() <= 0) {
+                throw new IllegalArgumentException("maxAmountByTerm amount for " + term + " months must be positive");
+            }
+        });
+        long[] maxAmountCents = amountLimitsByTerm(bands);
+        // 80% of the limit, precomputed per term
+        long[] nearLimitCents = new long[maxAmountCents.length];
+        for (int term = 0; term < maxAmountCents.length; term++) {
+            nearLimitCents[term] = maxAmountCents[term] / 5 * 4;
+        }
+        int maxPriorRejections = rules.getMaxPriorRejections();
+        int maxOpenApplications = rules.getMaxOpenApplications();
+        int minDocuments = rules.getMinDocuments();
+
+        List<Predicate<ApplicationFacts>> knockOuts = new ArrayList<>();
+        knockOuts.add(f -> f.termMonths() < 1 || f.termMonths() >= maxAmountCents.length
+                || f.amountCents() > maxAmountCents[f.termMonths()]);
+        knockOuts.add(f -> f.priorRejections() >= maxPriorRejections);
+
+        List<ToIntFunction<ApplicationFacts>> scorers = new ArrayList<>();
+        scorers.add(f -> f.identityVerified() ? 0 : UNVERIFIED_IDENTITY_POINTS);
+        scorers.add(f -> f.termMonths() < nearLimitCents.length && f.amountCents() > nearLimitCents[f.termMonths()]
+                ? NEAR_LIMIT_POINTS : 0);
+        scorers.add(f -> f.priorRejections() * PRIOR_REJECTION_POINTS);
+        scorers.add(f -> f.otherOpenApplications() > maxOpenApplications ? OPEN_APPLICATIONS_POINTS : 0);
+        if (minDocuments > 0) {
+            scorers.add(f -> f.documents() < minDocuments ? MISSING_DOCUMENTS_POINTS : 0);
+        }
+
+        return new CompiledRules(rules, fuse(knockOuts), fuseScores(scorers));
+    }
+
+    public Assessment evaluate(ApplicationFacts facts) {
+        if (knockOut.test(facts)) {
+            return new Assessment(MAX_SCORE, DecisionStatus.REJECTED);
+        }
+        int score = Math.min(scorer.applyAsInt(facts), MAX_SCORE);
+        DecisionStatus suggestion = score < approveBelow ? DecisionStatus.APPROVED
+                : score >= rejectAtOrAbove ? DecisionStatus.REJECTED
+                : null;
+        return new Assessment(score, suggestion);
+    }
+
+    public UnderwritingRulesDTO source() {
+        return source;
+    }
+
+    // Balanced pairwise composition keeps the call depth logarithmic in the number of rules
+    private static Predicate<ApplicationFacts> fuse(List<Predicate<ApplicationFacts>> predicates) {
+        if (predicates.isEmpty()) {
+            return f -> false;
+        }
+        if (predicates.size() == 1) {
+            return predicates.get(0);
+        }
+        int mid = predicates.size() / 2;
+        Predicate<ApplicationFacts> left = fuse(predicates.subList(0, mid));
+        Predicate<ApplicationFacts> right = fuse(predicates.subList(mid, predicates.size()));
+        return f -> left.test(f) || right.test(f);
+    }
+
+    private static ToIntFunction<ApplicationFacts> fuseScores(List<ToIntFunction<ApplicationFacts>> scorers) {
+        if (scorers.isEmpty()) {
+            return f -> 0;
+        }
+        if (scorers.size() == 1) {
+            return scorers.get(0);
+        }
+        int mid = scorers.size() / 2;
+        ToIntFunction<ApplicationFacts> left = fuseScores(scorers.subList(0, mid));
+        ToIntFunction<ApplicationFacts> right = fuseScores(scorers.subList(mid, scorers.size()));
+        return f -> left.applyAsInt(f) + right.applyAsInt(f);
+    }
+
+    // Terms above the largest band are not lendable; each term takes the first band whose maximum covers it
+    private static long[] amountLimitsByTerm(Map<Integer, BigDecimal> maxAmountByTerm) {
+        TreeMap<Integer, BigDecimal> bands = new TreeMap<>(maxAmountByTerm);
+        int maxTerm = Math.min(bands.lastKey(), AmortizationEngine.MAX_TERM_MONTHS);
+        long[] limits = new long[maxTerm + 1];
+        for (int term = 1; term <= maxTerm; term++) {
+            BigDecimal limit = bands.ceilingEntry(term).getValue();
+            limits[term] = limit.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        }
+        return limits;
+    }
+}
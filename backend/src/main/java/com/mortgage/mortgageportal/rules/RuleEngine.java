@@ -0,0 +1,59 @@
+package com.mortgage.mortgageportal.rules;
+
+import com.mortgage.mortgageportal.dto.UnderwritingRulesDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Holds the active compiled rule set. Replacing the rules compiles the new set before publishing it,
+ * so evaluations always see one complete rule set, never a mix.
+ */
+@Component
+public class RuleEngine {
+
+    private volatile CompiledRules active;
+
+    public RuleEngine(@Value("${underwriting.max-amount-by-term:120=300000,240=750000,600=1000000}") String maxAmountByTerm,
+                      @Value("${underwriting.max-open-applications:1}") int maxOpenApplications,
+                      @Value("${underwriting.max-prior-rejections:2}") int maxPriorRejections,
+                      @Value("${underwriting.min-documents:2}") int minDocuments,
+                      @Value("${underwriting.approve-below-score:30}") int approveBelowScore,
+                      @Value("${underwriting.reject-at-or-above-score:70}") int rejectAtOrAboveScore) {
+        this.active = CompiledRules.compile(UnderwritingRulesDTO.builder()
+                .maxAmountByTerm(parseBands(maxAmountByTerm))
+                .maxOpenApplications(maxOpenApplications)
+                .maxPriorRejections(maxPriorRejections)
+                .minDocuments(minDocuments)
+                .approveBelowScore(approveBelowScore)
+                .rejectAtOrAboveScore(rejectAtOrAboveScore)
+                .build());
+    }
+
+    public Assessment evaluate(ApplicationFacts facts) {
+        return active.evaluate(facts);
+    }
+
+    public UnderwritingRulesDTO getRules() {
+        return active.source();
+    }
+
+    public void update(UnderwritingRulesDTO rules) {
+        active = CompiledRules.compile(rules);
+    }
+
+    private static Map<Integer, BigDecimal> parseBands(String spec) {
+        Map<Integer, BigDecimal> bands = new LinkedHashMap<>();
+        for (String band : spec.split(",")) {
+            String[] parts = band.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid amount band '" + band + "', expected maxTermMonths=maxAmount");
+            }
+            bands.put(Integer.parseInt(parts[0].trim()), new BigDecimal(parts[1].trim()));
+        }
+        return bands;
+    }
+}
@@ -0,0 +1,28 @@
+package com.mortgage.mortgageportal.serialization;
+
+import com.fasterxml.jackson.core.io.SerializedString;
+
+/**
+ * Pre-encoded JSON strings for enum constants, indexed by ordinal and built once per enum type.
+ */
+public final class EnumNames {
+
+    private static final ClassValue<SerializedString[]> CACHE = new ClassValue<>() {
+        @Override
+        protected SerializedString[] computeValue(Class<?> type) {
+            Object[] constants = type.getEnumConstants();
+            SerializedString[] names = new SerializedString[constants.length];
+            for (int i = 0; i < constants.length; i++) {
+                names[i] = new SerializedString(((Enum<?>) constants[i]).name());
+            }
+            return names;
+        }
+    };
+
+    private EnumNames() {
+    }
+
+    public static SerializedString of(Enum<?> value) {
+        return CACHE.get(value.getDeclaringClass())[value.ordinal()];
+    }
+}
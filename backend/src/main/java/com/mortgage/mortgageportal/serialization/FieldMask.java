@@ -0,0 +1,67 @@
+package com.mortgage.mortgageportal.serialization;
+
+import com.mortgage.mortgageportal.exception.BadRequestException;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Parses a {@code ?fields=} selection into a bitmask over a response type's properties.
+ * Clients send a handful of distinct selections, so parsed masks are cached by the raw parameter value;
+ * the cache stops growing at MAX_CACHED_PLANS so arbitrary inputs cannot fill the heap.
+ */
+public final class FieldMask {
+
+    private static final int MAX_CACHED_PLANS = 256;
+
+    public static final FieldMask APPLICATION = new FieldMask(
+            List.of("id", "userId", "status", "amount", "loanTermMonths", "createdAt", "updatedAt",
+                    "riskScore", "suggestedDecision"));
+
+    public static final FieldMask DOCUMENT = new FieldMask(
+            List.of("id", "applicationId", "fileName", "fileType", "fileSize", "presignedUrl", "uploadedAt"));
+
+    private final List<String> properties;
+    private final long all;
+    private final Map<String, Long> plans = new ConcurrentHashMap<>();
+
+    private FieldMask(List<String> properties) {
+        this.properties = properties;
+        this.all = (1L << properties.size()) - 1;
+    }
+
+    public long all() {
+        return all;
+    }
+
+    public long parse(String fields) {
+        if (!StringUtils.hasText(fields)) {
+            return all;
+        }
+        Long cached = plans.get(fields);
+        if (cached != null) {
+            return cached;
+        }
+        long mask = 0;
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            int index = properties.indexOf(name);
+            if (index < 0) {
+                throw new BadRequestException("Unknown field '" + name + "', expected one of " + properties);
+            }
+            mask |= 1L << index;
+        }
+        if (mask == 0) {
+            mask = all;
+        }
+        if (plans.size() < MAX_CACHED_PLANS) {
+            plans.put(fields, mask);
+        }
+        return mask;
+    }
+}
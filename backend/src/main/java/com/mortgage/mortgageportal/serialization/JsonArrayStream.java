@@ -0,0 +1,21 @@
+package com.mortgage.mortgageportal.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+
+/**
+ * JSON array written row by row, without first materializing a list of DTOs.
+ */
+public record JsonArrayStream<T>(Iterable<T> rows, JsonStreamBody.RowWriter<T> rowWriter) implements JsonStreamBody {
+
+    @Override
+    public void writeTo(JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartArray();
+        for (T row : rows) {
+            rowWriter.write(row, generator, provider);
+        }
+        generator.writeEndArray();
+    }
+}
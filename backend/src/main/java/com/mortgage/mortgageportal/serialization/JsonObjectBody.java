@@ -0,0 +1,17 @@
+package com.mortgage.mortgageportal.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+
+/**
+ * Single entity written through its row writer.
+ */
+public record JsonObjectBody<T>(T row, JsonStreamBody.RowWriter<T> rowWriter) implements JsonStreamBody {
+
+    @Override
+    public void writeTo(JsonGenerator generator, SerializerProvider provider) throws IOException {
+        rowWriter.write(row, generator, provider);
+    }
+}
@@ -0,0 +1,40 @@
+package com.mortgage.mortgageportal.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import org.springframework.data.domain.Page;
+
+import java.io.IOException;
+
+/**
+ * Page of entities in the same envelope as PagedResponseDTO, with the content streamed row by row.
+ */
+public record JsonPageStream<T>(Page<T> page, JsonStreamBody.RowWriter<T> rowWriter) implements JsonStreamBody {
+
+    private static final SerializedString CONTENT = new SerializedString("content");
+    private static final SerializedString PAGE = new SerializedString("page");
+    private static final SerializedString SIZE = new SerializedString("size");
+    private static final SerializedString TOTAL_ELEMENTS = new SerializedString("totalElements");
+    private static final SerializedString TOTAL_PAGES = new SerializedString("totalPages");
+
+    @Override
+    public void writeTo(JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(CONTENT);
+        generator.writeStartArray();
+        for (T row : page.getContent()) {
+            rowWriter.write(row, generator, provider);
+        }
+        generator.writeEndArray();
+        generator.writeFieldName(PAGE);
+        generator.writeNumber(page.getNumber());
+        generator.writeFieldName(SIZE);
+        generator.writeNumber(page.getSize());
+        generator.writeFieldName(TOTAL_ELEMENTS);
+        generator.writeNumber(page.getTotalElements());
+        generator.writeFieldName(TOTAL_PAGES);
+        generator.writeNumber(page.getTotalPages());
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,19 @@
+package com.mortgage.mortgageportal.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+
+/**
+ * Response body that writes itself straight to a JsonGenerator, rendered by {@link JsonStreamBodyHttpMessageConverter}.
+ */
+public interface JsonStreamBody {
+
+    @FunctionalInterface
+    interface RowWriter<T> {
+        void write(T row, JsonGenerator generator, SerializerProvider provider) throws IOException;
+    }
+
+    void writeTo(JsonGenerator generator, SerializerProvider provider) throws IOException;
+}
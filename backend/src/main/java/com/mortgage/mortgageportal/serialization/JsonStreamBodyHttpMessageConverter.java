@@ -0,0 +1,49 @@
+package com.mortgage.mortgageportal.serialization;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+
+public class JsonStreamBodyHttpMessageConverter extends AbstractHttpMessageConverter<JsonStreamBody> {
+
+    private final ObjectMapper objectMapper;
+
+    public JsonStreamBodyHttpMessageConverter(ObjectMapper objectMapper) {
+        super(MediaType.APPLICATION_JSON);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return JsonStreamBody.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected JsonStreamBody readInternal(Class<? extends JsonStreamBody> clazz, HttpInputMessage inputMessage)
+            throws HttpMessageNotReadableException {
+        throw new HttpMessageNotReadableException("JsonStreamBody is write-only", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(JsonStreamBody body, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        try (JsonGenerator generator = objectMapper.getFactory()
+                .createGenerator(outputMessage.getBody(), JsonEncoding.UTF8)) {
+            // One provider per response; row writers use it for values that need the mapper's own serializers
+            body.writeTo(generator, objectMapper.getSerializerProviderInstance());
+        }
+    }
+}
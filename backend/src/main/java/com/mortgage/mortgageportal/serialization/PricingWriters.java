@@ -0,0 +1,90 @@
+package com.mortgage.mortgageportal.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.mortgage.mortgageportal.pricing.AmortizationSchedule;
+import com.mortgage.mortgageportal.pricing.ApplicationQuote;
+import com.mortgage.mortgageportal.pricing.Quote;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Streams pricing results straight from their cent values; the quote fields match QuoteResponseDTO.
+ * A 360-month schedule is 1,800 amounts, so no BigDecimal or row object is created on the way out.
+ */
+public final class PricingWriters {
+
+    private static final SerializedString APPLICATION_ID = new SerializedString("applicationId");
+    private static final SerializedString AMOUNT = new SerializedString("amount");
+    private static final SerializedString LOAN_TERM_MONTHS = new SerializedString("loanTermMonths");
+    private static final SerializedString ANNUAL_RATE = new SerializedString("annualRate");
+    private static final SerializedString MONTHLY_PAYMENT = new SerializedString("monthlyPayment");
+    private static final SerializedString FINAL_PAYMENT = new SerializedString("finalPayment");
+    private static final SerializedString TOTAL_INTEREST = new SerializedString("totalInterest");
+    private static final SerializedString TOTAL_PAID = new SerializedString("totalPaid");
+    private static final SerializedString SCHEDULE = new SerializedString("schedule");
+    private static final SerializedString MONTH = new SerializedString("month");
+    private static final SerializedString PAYMENT = new SerializedString("payment");
+    private static final SerializedString PRINCIPAL = new SerializedString("principal");
+    private static final SerializedString INTEREST = new SerializedString("interest");
+    private static final SerializedString BALANCE = new SerializedString("balance");
+
+    private PricingWriters() {
+    }
+
+    public static JsonObjectBody<AmortizationSchedule> schedule(AmortizationSchedule schedule) {
+        return new JsonObjectBody<>(schedule, (row, gen, provider) -> writeSchedule(row, gen));
+    }
+
+    public static JsonArrayStream<ApplicationQuote> applicationQuotes(List<ApplicationQuote> quotes) {
+        return new JsonArrayStream<>(quotes, (row, gen, provider) -> {
+            gen.writeStartObject();
+            gen.writeFieldName(APPLICATION_ID);
+            gen.writeString(row.applicationId().toString());
+            writeQuoteFields(row.quote(), gen);
+            gen.writeEndObject();
+        });
+    }
+
+    private static void writeSchedule(AmortizationSchedule schedule, JsonGenerator gen) throws IOException {
+        gen.writeStartObject();
+        writeQuoteFields(schedule.quote(), gen);
+        gen.writeFieldName(SCHEDULE);
+        gen.writeStartArray();
+        for (int i = 0; i < schedule.months(); i++) {
+            gen.writeStartObject();
+            gen.writeFieldName(MONTH);
+            gen.writeNumber(i + 1);
+            writeCents(gen, PAYMENT, schedule.paymentCents(i));
+            writeCents(gen, PRINCIPAL, schedule.principalCents(i));
+            writeCents(gen, INTEREST, schedule.interestCents(i));
+            writeCents(gen, BALANCE, schedule.balanceCents(i));
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+        gen.writeEndObject();
+    }
+
+    private static void writeQuoteFields(Quote quote, JsonGenerator gen) throws IOException {
+        writeCents(gen, AMOUNT, quote.principalCents());
+        gen.writeFieldName(LOAN_TERM_MONTHS);
+        gen.writeNumber(quote.termMonths());
+        // Basis points have the same two implied decimals as cents
+        writeCents(gen, ANNUAL_RATE, quote.annualRateBps());
+        writeCents(gen, MONTHLY_PAYMENT, quote.monthlyPaymentCents());
+        writeCents(gen, FINAL_PAYMENT, quote.finalPaymentCents());
+        writeCents(gen, TOTAL_INTEREST, quote.totalInterestCents());
+        writeCents(gen, TOTAL_PAID, quote.totalPaidCents());
+    }
+
+    // Same text as BigDecimal.valueOf(cents, 2).toString()
+    private static void writeCents(JsonGenerator gen, SerializableString name, long cents) throws IOException {
+        gen.writeFieldName(name);
+        long abs = Math.abs(cents);
+        long fraction = abs % 100;
+        String text = (cents < 0 ? "-" : "") + (abs / 100) + (fraction < 10 ? ".0" : ".") + fraction;
+        gen.writeNumber(text);
+    }
+}
@@ -0,0 +1,219 @@
+package com.mortgage.mortgageportal.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.mortgage.mortgageportal.entities.Application;
+import com.mortgage.mortgageportal.entities.Document;
+import org.springframework.data.domain.Page;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+
+/**
+ * Writes entities in exactly the shape of ApplicationResponseDTO / DocumentResponse, field for field,
+ * without building the DTOs. Field names are pre-encoded; LocalDateTime values go through the mapper's
+ * own serializer so date formatting stays identical to the bean-serialized responses.
+ * Each writer takes a {@link FieldMask} bitmask; bit positions follow the property order declared there.
+ */
+public final class ResponseRowWriters {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString USER_ID = new SerializedString("userId");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString AMOUNT = new SerializedString("amount");
+    private static final SerializedString LOAN_TERM_MONTHS = new SerializedString("loanTermMonths");
+    private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializedString UPDATED_AT = new SerializedString("updatedAt");
+    private static final SerializedString RISK_SCORE = new SerializedString("riskScore");
+    private static final SerializedString SUGGESTED_DECISION = new SerializedString("suggestedDecision");
+
+    private static final SerializedString APPLICATION_ID = new SerializedString("applicationId");
+    private static final SerializedString FILE_NAME = new SerializedString("fileName");
+    private static final SerializedString FILE_TYPE = new SerializedString("fileType");
+    private static final SerializedString FILE_SIZE = new SerializedString("fileSize");
+    private static final SerializedString PRESIGNED_URL = new SerializedString("presignedUrl");
+    private static final SerializedString UPLOADED_AT = new SerializedString("uploadedAt");
+
+    private static final long APP_ID = 1L;
+    private static final long APP_USER_ID = 1L << 1;
+    private static final long APP_STATUS = 1L << 2;
+    private static final long APP_AMOUNT = 1L << 3;
+    private static final long APP_LOAN_TERM_MONTHS = 1L << 4;
+    private static final long APP_CREATED_AT = 1L << 5;
+    private static final long APP_UPDATED_AT = 1L << 6;
+    private static final long APP_RISK_SCORE = 1L << 7;
+    private static final long APP_SUGGESTED_DECISION = 1L << 8;
+
+    private static final long DOC_ID = 1L;
+    private static final long DOC_APPLICATION_ID = 1L << 1;
+    private static final long DOC_FILE_NAME = 1L << 2;
+    private static final long DOC_FILE_TYPE = 1L << 3;
+    private static final long DOC_FILE_SIZE = 1L << 4;
+    private static final long DOC_PRESIGNED_URL = 1L << 5;
+    private static final long DOC_UPLOADED_AT = 1L << 6;
+
+    // Matches @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss") on DocumentResponse.uploadedAt
+    private static final DateTimeFormatter UPLOADED_AT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private ResponseRowWriters() {
+    }
+
+    public static JsonArrayStream<Application> applications(Iterable<Application> applications) {
+        return applications(applications, FieldMask.APPLICATION.all());
+    }
+
+    public static JsonArrayStream<Application> applications(Iterable<Application> applications, long fields) {
+        return new JsonArrayStream<>(applications, applicationWriter(fields));
+    }
+
+    public static JsonObjectBody<Application> application(Application application, long fields) {
+        return new JsonObjectBody<>(application, applicationWriter(fields));
+    }
+
+    public static JsonPageStream<Application> applicationPage(Page<Application> page, long fields) {
+        return new JsonPageStream<>(page, applicationWriter(fields));
+    }
+
+    public static JsonArrayStream<Document> documents(Iterable<Document> documents) {
+        return documents(documents, FieldMask.DOCUMENT.all());
+    }
+
+    public static JsonArrayStream<Document> documents(Iterable<Document> documents, long fields) {
+        return new JsonArrayStream<>(documents, documentWriter(fields));
+    }
+
+    public static JsonObjectBody<Document> document(Document document, long fields) {
+        return new JsonObjectBody<>(document, documentWriter(fields));
+    }
+
+    private static JsonStreamBody.RowWriter<Application> applicationWriter(long fields) {
+        return (app, gen, provider) -> writeApplication(app, gen, provider, fields);
+    }
+
+    private static JsonStreamBody.RowWriter<Document> documentWriter(long fields) {
+        return (document, gen, provider) -> writeDocument(document, gen, provider, fields);
+    }
+
+    public static void writeApplication(Application app, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        writeApplication(app, gen, provider, FieldMask.APPLICATION.all());
+    }
+
+    public static void writeApplication(Application app, JsonGenerator gen, SerializerProvider provider, long fields) throws IOException {
+        gen.writeStartObject();
+        if ((fields & APP_ID) != 0) {
+            writeUuid(gen, ID, app.getId());
+        }
+        if ((fields & APP_USER_ID) != 0) {
+            writeUuid(gen, USER_ID, app.getUser() != null ? app.getUser().getId() : null);
+        }
+        if ((fields & APP_STATUS) != 0) {
+            gen.writeFieldName(STATUS);
+            if (app.getStatus() != null) {
+                gen.writeString(EnumNames.of(app.getStatus()));
+            } else {
+                gen.writeNull();
+            }
+        }
+        if ((fields & APP_AMOUNT) != 0) {
+            writeDecimal(gen, AMOUNT, app.getAmount());
+        }
+        if ((fields & APP_LOAN_TERM_MONTHS) != 0) {
+            writeInteger(gen, LOAN_TERM_MONTHS, app.getLoanTermMonths());
+        }
+        if ((fields & APP_CREATED_AT) != 0) {
+            writeDateTime(gen, provider, CREATED_AT, app.getCreatedAt());
+        }
+        if ((fields & APP_UPDATED_AT) != 0) {
+            writeDateTime(gen, provider, UPDATED_AT, app.getUpdatedAt());
+        }
+        if ((fields & APP_RISK_SCORE) != 0) {
+            writeInteger(gen, RISK_SCORE, app.getRiskScore());
+        }
+        if ((fields & APP_SUGGESTED_DECISION) != 0) {
+            gen.writeFieldName(SUGGESTED_DECISION);
+            if (app.getSuggestedDecision() != null) {
+                gen.writeString(EnumNames.of(app.getSuggestedDecision()));
+            } else {
+                gen.writeNull();
+            }
+        }
+        gen.writeEndObject();
+    }
+
+    public static void writeDocument(Document document, JsonGenerator gen, SerializerProvider provider, long fields) throws IOException {
+        gen.writeStartObject();
+        if ((fields & DOC_ID) != 0) {
+            writeUuid(gen, ID, document.getId());
+        }
+        if ((fields & DOC_APPLICATION_ID) != 0) {
+            writeUuid(gen, APPLICATION_ID, document.getApplication() != null ? document.getApplication().getId() : null);
+        }
+        if ((fields & DOC_FILE_NAME) != 0) {
+            writeText(gen, FILE_NAME, document.getFileName());
+        }
+        if ((fields & DOC_FILE_TYPE) != 0) {
+            writeText(gen, FILE_TYPE, document.getFileType());
+        }
+        if ((fields & DOC_FILE_SIZE) != 0) {
+            gen.writeFieldName(FILE_SIZE);
+            if (document.getFileSize() != null) {
+                gen.writeNumber(document.getFileSize());
+            } else {
+                gen.writeNull();
+            }
+        }
+        if ((fields & DOC_PRESIGNED_URL) != 0) {
+            writeText(gen, PRESIGNED_URL, document.getPresignedUrl());
+        }
+        if ((fields & DOC_UPLOADED_AT) != 0) {
+            writeText(gen, UPLOADED_AT, document.getUploadedAt() != null ? UPLOADED_AT_FORMAT.format(document.getUploadedAt()) : null);
+        }
+        gen.writeEndObject();
+    }
+
+    private static void writeUuid(JsonGenerator gen, SerializableString name, UUID value) throws IOException {
+        writeText(gen, name, value != null ? value.toString() : null);
+    }
+
+    private static void writeText(JsonGenerator gen, SerializableString name, String value) throws IOException {
+        gen.writeFieldName(name);
+        if (value != null) {
+            gen.writeString(value);
+        } else {
+            gen.writeNull();
+        }
+    }
+
+    private static void writeDecimal(JsonGenerator gen, SerializableString name, BigDecimal value) throws IOException {
+        gen.writeFieldName(name);
+        if (value != null) {
+            gen.writeNumber(value);
+        } else {
+            gen.writeNull();
+        }
+    }
+
+    private static void writeInteger(JsonGenerator gen, SerializableString name, Integer value) throws IOException {
+        gen.writeFieldName(name);
+        if (value != null) {
+            gen.writeNumber(value);
+        } else {
+            gen.writeNull();
+        }
+    }
+
+    private static void writeDateTime(JsonGenerator gen, SerializerProvider provider, SerializableString name,
+                                      LocalDateTime value) throws IOException {
+        gen.writeFieldName(name);
+        if (value != null) {
+            provider.findValueSerializer(LocalDateTime.class).serialize(value, gen, provider);
+        } else {
+            gen.writeNull();
+        }
+    }
+}
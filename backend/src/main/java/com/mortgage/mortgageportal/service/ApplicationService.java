@@ -4,15 +4,28 @@ import com.mortgage.mortgageportal.dto.ApplicationRequestDTO;
 import com.mortgage.mortgageportal.entities.Application;
 import com.mortgage.mortgageportal.entities.User;
 import com.mortgage.mortgageportal.enums.ApplicationStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public interface ApplicationService {
     Application createApplication(ApplicationRequestDTO request, User user);
     Application getApplicationById(UUID id, User requester);
-    List<Application> listApplications(ApplicationStatus status, LocalDateTime createdFrom, LocalDateTime createdTo, String nationalId);
+    Map<UUID, Application> getApplicationsByIds(Collection<UUID> ids, User requester);
+    List<Application> listApplications(ApplicationStatus status, LocalDateTime createdFrom, LocalDateTime createdTo, String nationalId,
+                                       BigDecimal amountMin, BigDecimal amountMax, Integer termMin, Integer termMax);
+    default List<Application> listApplications(ApplicationStatus status, LocalDateTime createdFrom, LocalDateTime createdTo, String nationalId) {
+        return listApplications(status, createdFrom, createdTo, nationalId, null, null, null, null);
+    }
+    Page<Application> listApplicationsByUser(UUID userId, ApplicationStatus status, Pageable pageable);
+    List<Application> searchApplications(String query, int limit);
+    List<Application> listApplicationsByNationalId(String nationalId);
     Application updateApplication(UUID id, ApplicationRequestDTO request, User user);
     void deleteApplication(UUID id, User user);
 }
\ No newline at end of file
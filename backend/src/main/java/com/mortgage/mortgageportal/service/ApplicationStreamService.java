@@ -0,0 +1,11 @@
+package com.mortgage.mortgageportal.service;
+
+import com.mortgage.mortgageportal.enums.ApplicationStatus;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+
+public interface ApplicationStreamService {
+    SseEmitter subscribeToApplication(UUID applicationId);
+    SseEmitter subscribeToStatus(ApplicationStatus status);
+}
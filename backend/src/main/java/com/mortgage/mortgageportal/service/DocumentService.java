@@ -14,4 +14,7 @@ public interface DocumentService {
     List<Document> getDocumentsByApplicationId(UUID applicationId, User user);
     
     Document getDocumentById(UUID documentId, User user);
+    
+    // Internal use (underwriting); no access check
+    int countDocuments(UUID applicationId);
 }
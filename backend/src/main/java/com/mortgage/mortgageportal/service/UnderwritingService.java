@@ -0,0 +1,11 @@
+package com.mortgage.mortgageportal.service;
+
+import com.mortgage.mortgageportal.dto.UnderwritingRulesDTO;
+import com.mortgage.mortgageportal.entities.Application;
+
+public interface UnderwritingService {
+    Application assess(Application application);
+    int rescorePending();
+    UnderwritingRulesDTO getRules();
+    int updateRules(UnderwritingRulesDTO rules);
+}
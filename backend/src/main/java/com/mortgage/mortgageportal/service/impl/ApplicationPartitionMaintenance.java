@@ -0,0 +1,80 @@
+package com.mortgage.mortgageportal.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Keeps the monthly applications partitions ahead of the clock and moves decided history into the archive.
+ * Both steps are idempotent database functions (see V4 migration), so several instances may run this concurrently.
+ */
+@Component
+@ConditionalOnProperty(name = "applications.maintenance.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class ApplicationPartitionMaintenance {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    public ApplicationPartitionMaintenance(JdbcTemplate jdbcTemplate,
+                                           @Value("${applications.maintenance.months-ahead:3}") int monthsAhead,
+                                           @Value("${applications.maintenance.retention-months:12}") int retentionMonths,
+                                           @Value("${applications.maintenance.archive-batch-size:1000}") int batchSize,
+                                           @Value("${applications.maintenance.max-batches-per-run:500}") int maxBatchesPerRun) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        createFuturePartitions();
+    }
+
+    @Scheduled(cron = "${applications.maintenance.cron:0 15 2 * * *}")
+    public void runMaintenance() {
+        createFuturePartitions();
+        archiveDecidedApplications();
+    }
+
+    void createFuturePartitions() {
+        LocalDate month = LocalDate.now().withDayOfMonth(1);
+        for (int i = 0; i <= monthsAhead; i++) {
+            jdbcTemplate.queryForObject("SELECT create_applications_partition(?)::text", String.class,
+                    Date.valueOf(month.plusMonths(i)));
+        }
+    }
+
+    // Each batch is its own statement and transaction, so locks are short and a failure keeps earlier batches
+    int archiveDecidedApplications() {
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minusMonths(retentionMonths));
+        int total = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            Integer moved = jdbcTemplate.queryForObject("SELECT archive_decided_applications(?, ?)", Integer.class,
+                    cutoff, batchSize);
+            if (moved == null || moved == 0) {
+                break;
+            }
+            total += moved;
+        }
+        if (total > 0) {
+            log.info("Archived {} decided applications created before {}", total, cutoff);
+        }
+        return total;
+    }
+}
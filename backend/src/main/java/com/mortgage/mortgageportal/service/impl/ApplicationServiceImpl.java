@@ -7,39 +7,90 @@ import com.mortgage.mortgageportal.enums.ApplicationStatus;
 import com.mortgage.mortgageportal.enums.UserRole;
 import com.mortgage.mortgageportal.event.ApplicationEventPayload;
 import com.mortgage.mortgageportal.event.EventMetadata;
+import com.mortgage.mortgageportal.exception.AccessForbiddenException;
+import com.mortgage.mortgageportal.exception.ResourceNotFoundException;
+import com.mortgage.mortgageportal.index.LoanRangeIndex;
+import com.mortgage.mortgageportal.index.PrefixIndex;
+import com.mortgage.mortgageportal.index.UuidBloomFilter;
+import com.mortgage.mortgageportal.journal.JournaledStore;
+import com.mortgage.mortgageportal.journal.StateJournal;
 import com.mortgage.mortgageportal.mapper.ApplicationMapper;
+import com.mortgage.mortgageportal.metrics.PipelineStats;
 import com.mortgage.mortgageportal.service.ApplicationService;
 import com.mortgage.mortgageportal.service.EventPublisherService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class ApplicationServiceImpl implements ApplicationService {
+public class ApplicationServiceImpl implements ApplicationService, JournaledStore<Application> {
     
     private final EventPublisherService eventPublisherService;
+    private final PipelineStats pipelineStats;
+    private final StateJournal stateJournal;
     
     // For demo purposes, using in-memory storage
     // In production, this would be a JPA repository
-    private final List<Application> applications = new ArrayList<>();
+    private final Map<UUID, Application> applications = new ConcurrentHashMap<>();
+    
+    // Owner index, the in-memory counterpart of idx_applications_user_id; each list is in creation order
+    private final Map<UUID, List<Application>> applicationsByUser = new ConcurrentHashMap<>();
+    
+    // Every id ever stored; a miss here proves the id does not exist, so random-id probes never reach the store
+    private final UuidBloomFilter knownIds = new UuidBloomFilter(100_000, 0.01);
+    
+    // Applications by the owner's latest known national ID, for applicant history across accounts
+    private final Map<String, List<Application>> applicationsByNationalId = new ConcurrentHashMap<>();
+    
+    // Owner id to the key their applications are filed under above, so a changed national ID can be moved off the old one
+    private final Map<UUID, String> nationalIdByOwner = new ConcurrentHashMap<>();
+    
+    // Applicant national ID and email prefixes to owner id, for officer typeahead; only owners with applications are indexed
+    private final PrefixIndex applicantIndex = new PrefixIndex();
+    
+    // Amount in cents and term in months, for officer range filters; the in-memory counterpart of idx_applications_amount_term
+    private final LoanRangeIndex<Application> loanRangeIndex = new LoanRangeIndex<>();
+    
+    // Set while the journal is being replayed; the range index is then built once at the end instead of per record
+    private volatile boolean restoring;
+    
+    private static final BigDecimal MIN_CENTS = BigDecimal.valueOf(Long.MIN_VALUE);
+    private static final BigDecimal MAX_CENTS = BigDecimal.valueOf(Long.MAX_VALUE);
     
     private static final String APPLICATION_TOPIC = "loan.applications";
     
     @Override
+    @Timed(value = "service.operation", histogram = true)
     public Application createApplication(ApplicationRequestDTO request, User user) {
         Application app = ApplicationMapper.toEntity(request, user);
         app.setId(UUID.randomUUID());
         app.setStatus(ApplicationStatus.PENDING);
         app.setCreatedAt(LocalDateTime.now());
         app.setUpdatedAt(LocalDateTime.now());
-        applications.add(app);
+        applications.put(app.getId(), app);
+        index(app);
+        pipelineStats.applicationCreated();
+        stateJournal.applicationSaved(app);
         
         // Publish CREATE event
         publishApplicationEvent(app, "CREATE");
@@ -48,31 +99,105 @@ public class ApplicationServiceImpl implements ApplicationService {
     }
     
     @Override
+    @Timed(value = "service.operation", histogram = true)
     public Application getApplicationById(UUID id, User requester) {
-        Application app = applications.stream()
-                .filter(a -> a.getId().equals(id))
-                .findFirst()
-                .orElseThrow(() -> new RuntimeException("Application not found"));
+        Application app = knownIds.mightContain(id) ? applications.get(id) : null;
+        if (app == null) {
+            throw new ResourceNotFoundException("Application not found");
+        }
         
         // Check access control
         if (requester.getRole() == UserRole.APPLICANT && !app.getUser().getId().equals(requester.getId())) {
-            throw new RuntimeException("Access denied: You can only view your own applications");
+            throw new AccessForbiddenException("Access denied: You can only view your own applications");
         }
         
         return app;
     }
     
     @Override
-    public List<Application> listApplications(ApplicationStatus status, LocalDateTime createdFrom, LocalDateTime createdTo, String nationalId) {
-        return applications.stream()
+    @Timed(value = "service.operation", histogram = true)
+    public Map<UUID, Application> getApplicationsByIds(Collection<UUID> ids, User requester) {
+        boolean ownOnly = requester.getRole() == UserRole.APPLICANT;
+        Map<UUID, Application> found = new LinkedHashMap<>();
+        for (UUID id : ids) {
+            if (!knownIds.mightContain(id)) {
+                continue;
+            }
+            Application app = applications.get(id);
+            // Same rule as getApplicationById, applied per row: applicants only get their own applications back
+            if (app != null && (!ownOnly || app.getUser().getId().equals(requester.getId()))) {
+                found.put(id, app);
+            }
+        }
+        return found;
+    }
+    
+    @Override
+    @Timed(value = "service.operation", histogram = true)
+    public List<Application> listApplications(ApplicationStatus status, LocalDateTime createdFrom, LocalDateTime createdTo, String nationalId,
+                                              BigDecimal amountMin, BigDecimal amountMax, Integer termMin, Integer termMax) {
+        boolean ranged = amountMin != null || amountMax != null || termMin != null || termMax != null;
+        // With a range, only the slice the index returns is visited; the remaining filters run on that slice
+        Collection<Application> candidates = ranged
+                ? loanRangeIndex.find(
+                        amountMin != null ? toCents(amountMin, RoundingMode.CEILING) : Long.MIN_VALUE,
+                        amountMax != null ? toCents(amountMax, RoundingMode.FLOOR) : Long.MAX_VALUE,
+                        termMin != null ? termMin : Integer.MIN_VALUE,
+                        termMax != null ? termMax : Integer.MAX_VALUE)
+                : applications.values();
+        return candidates.stream()
                 .filter(app -> status == null || app.getStatus() == status)
                 .filter(app -> createdFrom == null || app.getCreatedAt().isAfter(createdFrom))
                 .filter(app -> createdTo == null || app.getCreatedAt().isBefore(createdTo))
                 .filter(app -> nationalId == null || app.getUser().getNationalId().equals(nationalId))
+                .sorted(Comparator.comparing(Application::getCreatedAt))
                 .toList();
     }
     
     @Override
+    @Timed(value = "service.operation", histogram = true)
+    public Page<Application> listApplicationsByUser(UUID userId, ApplicationStatus status, Pageable pageable) {
+        List<Application> owned = applicationsByUser.getOrDefault(userId, List.of());
+        
+        // Newest first; only the caller's own applications are ever visited
+        List<Application> matching = new ArrayList<>();
+        for (int i = owned.size() - 1; i >= 0; i--) {
+            Application app = owned.get(i);
+            if (status == null || app.getStatus() == status) {
+                matching.add(app);
+            }
+        }
+        
+        int from = (int) Math.min(pageable.getOffset(), matching.size());
+        int to = Math.min(from + pageable.getPageSize(), matching.size());
+        return new PageImpl<>(matching.subList(from, to), pageable, matching.size());
+    }
+    
+    @Override
+    @Timed(value = "service.operation", histogram = true)
+    public List<Application> listApplicationsByNationalId(String nationalId) {
+        return List.copyOf(applicationsByNationalId.getOrDefault(nationalId, List.of()));
+    }
+    
+    @Override
+    @Timed(value = "service.operation", histogram = true)
+    public List<Application> searchApplications(String query, int limit) {
+        List<Application> results = new ArrayList<>(limit);
+        // Each matching applicant contributes newest applications first until the limit is reached
+        for (UUID userId : applicantIndex.search(query, limit)) {
+            List<Application> owned = applicationsByUser.getOrDefault(userId, List.of());
+            for (int i = owned.size() - 1; i >= 0 && results.size() < limit; i--) {
+                results.add(owned.get(i));
+            }
+            if (results.size() >= limit) {
+                break;
+            }
+        }
+        return results;
+    }
+    
+    @Override
+    @Timed(value = "service.operation", histogram = true)
     public Application updateApplication(UUID id, ApplicationRequestDTO request, User user) {
         Application existingApp = getApplicationById(id, user);
         
@@ -80,6 +205,14 @@ public class ApplicationServiceImpl implements ApplicationService {
         existingApp.setAmount(request.getAmount());
         existingApp.setLoanTermMonths(request.getLoanTermMonths());
         existingApp.setUpdatedAt(LocalDateTime.now());
+        indexLoanRange(existingApp);
+        stateJournal.applicationSaved(existingApp);
+        // Picks up a changed national ID or email on the owner's profile
+        applicationsByUser.computeIfPresent(user.getId(), (userId, owned) -> {
+            applicantIndex.put(userId, indexedNationalId(user), user.getEmail());
+            fileByNationalId(userId, owned, indexedNationalId(user));
+            return owned;
+        });
         
         // Publish UPDATE event
         publishApplicationEvent(existingApp, "UPDATE");
@@ -88,14 +221,159 @@ public class ApplicationServiceImpl implements ApplicationService {
     }
     
     @Override
+    @Timed(value = "service.operation", histogram = true)
     public void deleteApplication(UUID id, User user) {
         Application app = getApplicationById(id, user);
-        applications.remove(app);
+        if (applications.remove(app.getId()) != null) {
+            pipelineStats.applicationDeleted(app.getStatus());
+            stateJournal.applicationDeleted(app);
+        }
+        unindex(app);
         
         // Publish DELETE event
         publishApplicationEvent(app, "DELETE");
     }
     
+    @Override
+    public void beginRestore() {
+        restoring = true;
+    }
+    
+    @Override
+    public void endRestore() {
+        restoring = false;
+        loanRangeIndex.rebuild(
+                applications.values().stream()
+                        .filter(app -> app.getAmount() != null && app.getLoanTermMonths() != null)
+                        .toList(),
+                app -> toCents(app.getAmount(), RoundingMode.HALF_UP),
+                Application::getLoanTermMonths);
+    }
+    
+    @Override
+    public void restore(Application image) {
+        Application existing = applications.get(image.getId());
+        if (existing == null) {
+            applications.put(image.getId(), image);
+            index(image);
+            pipelineStats.applicationRestored(null, image.getStatus());
+            return;
+        }
+        // Owner and creation time never change, so only the range index depends on what is copied here
+        ApplicationStatus previous = existing.getStatus();
+        existing.setStatus(image.getStatus());
+        existing.setAmount(image.getAmount());
+        existing.setLoanTermMonths(image.getLoanTermMonths());
+        existing.setUpdatedAt(image.getUpdatedAt());
+        existing.setRiskScore(image.getRiskScore());
+        existing.setSuggestedDecision(image.getSuggestedDecision());
+        indexLoanRange(existing);
+        pipelineStats.applicationRestored(previous, existing.getStatus());
+    }
+    
+    @Override
+    public void restoreRemoval(UUID id) {
+        Application app = applications.remove(id);
+        if (app != null) {
+            unindex(app);
+            pipelineStats.applicationDeleted(app.getStatus());
+        }
+    }
+    
+    @Override
+    public Application findForRestore(UUID id) {
+        return applications.get(id);
+    }
+    
+    @Override
+    public int size() {
+        return applications.size();
+    }
+    
+    // Oldest first, so a restore rebuilds each owner's list in creation order
+    @Override
+    public Collection<Application> snapshotRecords() {
+        return applications.values().stream()
+                .sorted(Comparator.comparing(Application::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder())))
+                .toList();
+    }
+    
+    private void index(Application app) {
+        User user = app.getUser();
+        knownIds.add(app.getId());
+        applicationsByUser.compute(user.getId(), (userId, owned) -> {
+            List<Application> list = owned != null ? owned : new CopyOnWriteArrayList<>();
+            list.add(app);
+            applicantIndex.put(userId, indexedNationalId(user), user.getEmail());
+            String filed = nationalIdByOwner.get(userId);
+            if (filed != null) {
+                applicationsByNationalId.computeIfAbsent(filed, k -> new CopyOnWriteArrayList<>()).add(app);
+            }
+            fileByNationalId(userId, list, indexedNationalId(user));
+            return list;
+        });
+        indexLoanRange(app);
+    }
+    
+    // Moves the owner's applications from the key they were filed under to their current national ID, if it changed;
+    // called while holding the owner's applicationsByUser entry
+    private void fileByNationalId(UUID userId, List<Application> owned, String nationalId) {
+        String previous = nationalId != null ? nationalIdByOwner.put(userId, nationalId) : nationalIdByOwner.remove(userId);
+        if (Objects.equals(previous, nationalId)) {
+            return;
+        }
+        if (previous != null) {
+            applicationsByNationalId.computeIfPresent(previous, (k, list) -> {
+                list.removeAll(owned);
+                return list.isEmpty() ? null : list;
+            });
+        }
+        if (nationalId != null) {
+            applicationsByNationalId.computeIfAbsent(nationalId, k -> new CopyOnWriteArrayList<>()).addAll(owned);
+        }
+    }
+    
+    // The KYC placeholder is shared by every unverified user; indexing it would put all their applications under one key
+    private static String indexedNationalId(User user) {
+        String nationalId = user.getNationalId();
+        return User.UNVERIFIED_NATIONAL_ID.equals(nationalId) ? null : nationalId;
+    }
+    
+    private void unindex(Application app) {
+        loanRangeIndex.remove(app);
+        applicationsByUser.computeIfPresent(app.getUser().getId(), (userId, owned) -> {
+            owned.remove(app);
+            String filed = owned.isEmpty() ? nationalIdByOwner.remove(userId) : nationalIdByOwner.get(userId);
+            if (filed != null) {
+                applicationsByNationalId.computeIfPresent(filed, (k, list) -> {
+                    list.remove(app);
+                    return list.isEmpty() ? null : list;
+                });
+            }
+            if (owned.isEmpty()) {
+                applicantIndex.remove(userId);
+                return null;
+            }
+            return owned;
+        });
+    }
+    
+    private void indexLoanRange(Application app) {
+        if (restoring) {
+            return;
+        }
+        if (app.getAmount() == null || app.getLoanTermMonths() == null) {
+            loanRangeIndex.remove(app);
+            return;
+        }
+        loanRangeIndex.put(app, toCents(app.getAmount(), RoundingMode.HALF_UP), app.getLoanTermMonths());
+    }
+    
+    // Bounds are rounded inwards (min up, max down) so a fractional-cent filter keeps exactly the matching amounts
+    private static long toCents(BigDecimal amount, RoundingMode rounding) {
+        return amount.movePointRight(2).setScale(0, rounding).max(MIN_CENTS).min(MAX_CENTS).longValue();
+    }
+    
     private void publishApplicationEvent(Application application, String operation) {
         try {
             ApplicationEventPayload payload = ApplicationEventPayload.builder()
@@ -0,0 +1,222 @@
+package com.mortgage.mortgageportal.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mortgage.mortgageportal.enums.ApplicationStatus;
+import com.mortgage.mortgageportal.event.ApplicationEventPayload;
+import com.mortgage.mortgageportal.service.ApplicationStreamService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes application events to Server-Sent Events subscribers.
+ * An idle subscriber is just an open async response and a small queue; writes happen on short-lived virtual threads
+ * only while a subscriber has something queued, so a slow socket never holds up the publishing thread.
+ * A subscriber whose queue fills up (including with heartbeats) is treated as dead and disconnected.
+ */
+@Service
+@Slf4j
+public class ApplicationStreamServiceImpl implements ApplicationStreamService {
+
+    private static final OutboundEvent HEARTBEAT = new OutboundEvent(null, null, null);
+
+    private final ObjectMapper objectMapper;
+    private final long emitterTimeoutMillis;
+    private final int bufferCapacity;
+
+    private final ExecutorService writer = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Map<UUID, Set<Subscriber>> applicationSubscribers = new ConcurrentHashMap<>();
+    private final Set<Subscriber> statusSubscribers = ConcurrentHashMap.newKeySet();
+
+    public ApplicationStreamServiceImpl(ObjectMapper objectMapper,
+                                        @Value("${streams.emitter-timeout-ms:1800000}") long emitterTimeoutMillis,
+                                        @Value("${streams.buffer-capacity:32}") int bufferCapacity) {
+        this.objectMapper = objectMapper;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.bufferCapacity = bufferCapacity;
+    }
+
+    @Override
+    public SseEmitter subscribeToApplication(UUID applicationId) {
+        Subscriber subscriber = new Subscriber(applicationId, null);
+        applicationSubscribers.compute(applicationId, (id, subscribers) -> {
+            Set<Subscriber> set = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+            set.add(subscriber);
+            return set;
+        });
+        return subscriber.open();
+    }
+
+    @Override
+    public SseEmitter subscribeToStatus(ApplicationStatus status) {
+        Subscriber subscriber = new Subscriber(null, status);
+        statusSubscribers.add(subscriber);
+        return subscriber.open();
+    }
+
+    @EventListener
+    public void onApplicationEvent(ApplicationEventPayload payload) {
+        if ((applicationSubscribers.isEmpty() && statusSubscribers.isEmpty()) || payload.getApplication() == null) {
+            return;
+        }
+        OutboundEvent event;
+        try {
+            // Serialized once, shared by every subscriber
+            event = new OutboundEvent(payload.getOperation(), payload.getMetadata().getTraceId(),
+                    objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize stream event for application: {}", payload.getApplication().getId(), e);
+            return;
+        }
+
+        Set<Subscriber> subscribers = applicationSubscribers.get(payload.getApplication().getId());
+        if (subscribers != null) {
+            subscribers.forEach(s -> s.enqueue(event));
+        }
+        ApplicationStatus status = payload.getApplication().getStatus();
+        for (Subscriber subscriber : statusSubscribers) {
+            if (subscriber.statusFilter == null || subscriber.statusFilter == status) {
+                subscriber.enqueue(event);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${streams.heartbeat-interval-ms:15000}")
+    public void sendHeartbeats() {
+        applicationSubscribers.values().forEach(set -> set.forEach(s -> s.enqueue(HEARTBEAT)));
+        statusSubscribers.forEach(s -> s.enqueue(HEARTBEAT));
+    }
+
+    public int getSubscriberCount() {
+        return statusSubscribers.size() + applicationSubscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        applicationSubscribers.values().forEach(set -> set.forEach(Subscriber::close));
+        statusSubscribers.forEach(Subscriber::close);
+        writer.shutdown();
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (subscriber.applicationId != null) {
+            applicationSubscribers.computeIfPresent(subscriber.applicationId, (id, set) -> {
+                set.remove(subscriber);
+                return set.isEmpty() ? null : set;
+            });
+        } else {
+            statusSubscribers.remove(subscriber);
+        }
+    }
+
+    private record OutboundEvent(String name, String id, String json) {
+    }
+
+    private final class Subscriber {
+        private final UUID applicationId;
+        private final ApplicationStatus statusFilter;
+        private final SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        private final BlockingQueue<OutboundEvent> buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscriber(UUID applicationId, ApplicationStatus statusFilter) {
+            this.applicationId = applicationId;
+            this.statusFilter = statusFilter;
+        }
+
+        private SseEmitter open() {
+            emitter.onCompletion(this::detach);
+            emitter.onTimeout(this::close);
+            emitter.onError(e -> close());
+            // First write flushes the response headers so the client sees the stream open immediately
+            enqueue(HEARTBEAT);
+            return emitter;
+        }
+
+        private void enqueue(OutboundEvent event) {
+            if (closed.get()) {
+                return;
+            }
+            if (!buffer.offer(event)) {
+                log.debug("Disconnecting slow stream subscriber for application: {}", applicationId);
+                close();
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                writer.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                OutboundEvent event;
+                while (!closed.get() && (event = buffer.poll()) != null) {
+                    if (event == HEARTBEAT) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    } else {
+                        emitter.send(SseEmitter.event()
+                                .name(event.name())
+                                .id(event.id())
+                                .data(event.json(), MediaType.APPLICATION_JSON));
+                    }
+                }
+            } catch (Exception e) {
+                // Client went away or the response is already complete
+                close();
+            } finally {
+                draining.set(false);
+            }
+            // An event may have been queued after the last poll but before draining was released
+            if (!closed.get() && !buffer.isEmpty() && draining.compareAndSet(false, true)) {
+                writer.execute(this::drain);
+            }
+        }
+
+        private void detach() {
+            closed.set(true);
+            buffer.clear();
+            remove(this);
+        }
+
+        private void close() {
+            if (closed.compareAndSet(false, true)) {
+                buffer.clear();
+                remove(this);
+                // complete() waits for a write in progress, which for a stuck client lasts until the socket times out,
+                // so it must not run on the publishing thread
+                try {
+                    writer.execute(this::complete);
+                } catch (RejectedExecutionException e) {
+                    complete();
+                }
+            }
+        }
+
+        private void complete() {
+            try {
+                emitter.complete();
+            } catch (Exception ignored) {
+                // Already completed by the container
+            }
+        }
+    }
+}
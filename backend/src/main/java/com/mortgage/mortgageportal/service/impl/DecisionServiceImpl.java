@@ -5,45 +5,120 @@ import com.mortgage.mortgageportal.entities.Application;
 import com.mortgage.mortgageportal.entities.Decision;
 import com.mortgage.mortgageportal.entities.User;
 import com.mortgage.mortgageportal.enums.ApplicationStatus;
+import com.mortgage.mortgageportal.event.ApplicationEventPayload;
+import com.mortgage.mortgageportal.event.EventMetadata;
+import com.mortgage.mortgageportal.exception.ConflictException;
+import com.mortgage.mortgageportal.journal.JournaledStore;
+import com.mortgage.mortgageportal.journal.StateJournal;
+import com.mortgage.mortgageportal.mapper.ApplicationMapper;
 import com.mortgage.mortgageportal.mapper.DecisionMapper;
+import com.mortgage.mortgageportal.metrics.PipelineStats;
 import com.mortgage.mortgageportal.service.ApplicationService;
 import com.mortgage.mortgageportal.service.DecisionService;
+import com.mortgage.mortgageportal.service.EventPublisherService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @RequiredArgsConstructor
-public class DecisionServiceImpl implements DecisionService {
+@Slf4j
+public class DecisionServiceImpl implements DecisionService, JournaledStore<Decision> {
     
     private final ApplicationService applicationService;
+    private final EventPublisherService eventPublisherService;
+    private final PipelineStats pipelineStats;
+    private final StateJournal stateJournal;
+    
+    private static final String APPLICATION_TOPIC = "loan.applications";
     
     // For demo purposes, using in-memory storage
     // In production, this would be a JPA repository
-    private final List<Decision> decisions = new ArrayList<>();
+    // Keyed by application id; an application has at most one decision
+    private final Map<UUID, Decision> decisionsByApplication = new ConcurrentHashMap<>();
     
     @Override
+    @Timed(value = "service.operation", histogram = true)
     public Decision decideApplication(UUID applicationId, DecisionRequestDTO request, User officer) {
         // Get the application
         Application application = applicationService.getApplicationById(applicationId, officer);
         
         // Check if application is already decided
         if (application.getStatus() != ApplicationStatus.PENDING) {
-            throw new RuntimeException("Application is already decided");
+            throw new ConflictException("Application is already decided");
         }
         
-        // Create decision
+        // Create decision; only one of several concurrent decisions on the same application gets in
         Decision decision = DecisionMapper.toEntity(request, application, officer);
-        decisions.add(decision);
+        if (decisionsByApplication.putIfAbsent(applicationId, decision) != null) {
+            throw new ConflictException("Application is already decided");
+        }
         
         // Update application status
-        application.setStatus(request.getStatus() == com.mortgage.mortgageportal.enums.DecisionStatus.APPROVED 
+        ApplicationStatus newStatus = request.getStatus() == com.mortgage.mortgageportal.enums.DecisionStatus.APPROVED 
                 ? ApplicationStatus.APPROVED 
-                : ApplicationStatus.REJECTED);
+                : ApplicationStatus.REJECTED;
+        LocalDateTime decidedAt = LocalDateTime.now();
+        application.setStatus(newStatus);
+        application.setUpdatedAt(decidedAt);
+        pipelineStats.applicationDecided(ApplicationStatus.PENDING, newStatus, officer.getId(),
+                Duration.between(application.getCreatedAt(), decidedAt).toMillis());
+        stateJournal.applicationDecided(application, decision);
+        
+        // Publish DECISION event
+        publishDecisionEvent(application);
         
         return decision;
     }
+    
+    @Override
+    public void restore(Decision decision) {
+        decisionsByApplication.put(decision.getApplication().getId(), decision);
+    }
+    
+    @Override
+    public void restoreRemoval(UUID applicationId) {
+        decisionsByApplication.remove(applicationId);
+    }
+    
+    @Override
+    public Decision findForRestore(UUID applicationId) {
+        return decisionsByApplication.get(applicationId);
+    }
+    
+    @Override
+    public int size() {
+        return decisionsByApplication.size();
+    }
+    
+    @Override
+    public Collection<Decision> snapshotRecords() {
+        return List.copyOf(decisionsByApplication.values());
+    }
+    
+    private void publishDecisionEvent(Application application) {
+        try {
+            ApplicationEventPayload payload = ApplicationEventPayload.builder()
+                    .application(ApplicationMapper.toResponseDTO(application))
+                    .metadata(EventMetadata.builder()
+                            .eventType("APPLICATION_DECISION")
+                            .build())
+                    .operation("DECISION")
+                    .build();
+            
+            eventPublisherService.publishApplicationEvent(APPLICATION_TOPIC, application.getId().toString(), payload);
+        } catch (Exception e) {
+            log.error("Failed to publish DECISION event for application: {}", application.getId(), e);
+            // Don't throw exception to avoid breaking the main business logic
+        }
+    }
 } 
\ No newline at end of file
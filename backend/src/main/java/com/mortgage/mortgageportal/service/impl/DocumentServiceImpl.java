@@ -5,29 +5,54 @@ import com.mortgage.mortgageportal.entities.Application;
 import com.mortgage.mortgageportal.entities.Document;
 import com.mortgage.mortgageportal.entities.User;
 import com.mortgage.mortgageportal.enums.UserRole;
+import com.mortgage.mortgageportal.event.ApplicationEventPayload;
+import com.mortgage.mortgageportal.event.EventMetadata;
+import com.mortgage.mortgageportal.exception.AccessForbiddenException;
+import com.mortgage.mortgageportal.exception.ResourceNotFoundException;
+import com.mortgage.mortgageportal.index.UuidBloomFilter;
+import com.mortgage.mortgageportal.journal.JournaledStore;
+import com.mortgage.mortgageportal.journal.StateJournal;
+import com.mortgage.mortgageportal.mapper.ApplicationMapper;
 import com.mortgage.mortgageportal.mapper.DocumentMapper;
 import com.mortgage.mortgageportal.service.ApplicationService;
 import com.mortgage.mortgageportal.service.DocumentService;
+import com.mortgage.mortgageportal.service.EventPublisherService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class DocumentServiceImpl implements DocumentService {
+public class DocumentServiceImpl implements DocumentService, JournaledStore<Document> {
     
     private final ApplicationService applicationService;
+    private final EventPublisherService eventPublisherService;
+    private final StateJournal stateJournal;
+    
+    private static final String APPLICATION_TOPIC = "loan.applications";
     
     // For demo purposes, using in-memory storage
     // In production, this would be a JPA repository
-    private final List<Document> documents = new ArrayList<>();
+    private final Map<UUID, Document> documents = new ConcurrentHashMap<>();
+    
+    // Documents per application, in upload order
+    private final Map<UUID, List<Document>> documentsByApplication = new ConcurrentHashMap<>();
+    
+    // Every id ever stored; a miss here proves the id does not exist
+    private final UuidBloomFilter knownIds = new UuidBloomFilter(100_000, 0.01);
     
     @Override
+    @Timed(value = "service.operation", histogram = true)
     public Document createDocument(CreateDocumentRequest request, User user) {
         // Get the application and verify access
         Application application = applicationService.getApplicationById(request.getApplicationId(), user);
@@ -36,36 +61,107 @@ public class DocumentServiceImpl implements DocumentService {
         Document document = DocumentMapper.toEntity(request, application);
         document.setId(UUID.randomUUID());
         document.setUploadedAt(java.time.LocalDateTime.now());
-        documents.add(document);
+        documents.put(document.getId(), document);
+        index(document);
+        stateJournal.documentSaved(document);
         
         log.info("Created document: {} for application: {}", document.getId(), application.getId());
         
+        // Publish DOCUMENT_CREATE event
+        publishDocumentEvent(document);
+        
         return document;
     }
     
     @Override
+    @Timed(value = "service.operation", histogram = true)
     public List<Document> getDocumentsByApplicationId(UUID applicationId, User user) {
         // Verify access to the application
         applicationService.getApplicationById(applicationId, user);
         
-        return documents.stream()
-                .filter(doc -> doc.getApplication().getId().equals(applicationId))
-                .toList();
+        return List.copyOf(documentsByApplication.getOrDefault(applicationId, List.of()));
     }
     
     @Override
+    @Timed(value = "service.operation", histogram = true)
     public Document getDocumentById(UUID documentId, User user) {
-        Document document = documents.stream()
-                .filter(doc -> doc.getId().equals(documentId))
-                .findFirst()
-                .orElseThrow(() -> new RuntimeException("Document not found"));
+        Document document = knownIds.mightContain(documentId) ? documents.get(documentId) : null;
+        if (document == null) {
+            throw new ResourceNotFoundException("Document not found");
+        }
         
         // Check access control
         if (user.getRole() == UserRole.APPLICANT && 
             !document.getApplication().getUser().getId().equals(user.getId())) {
-            throw new RuntimeException("Access denied: You can only view documents for your own applications");
+            throw new AccessForbiddenException("Access denied: You can only view documents for your own applications");
         }
         
         return document;
     }
+    
+    @Override
+    @Timed(value = "service.operation", histogram = true)
+    public int countDocuments(UUID applicationId) {
+        return documentsByApplication.getOrDefault(applicationId, List.of()).size();
+    }
+    
+    // Documents never change after upload, so a record already restored is left as it is
+    @Override
+    public void restore(Document document) {
+        if (documents.putIfAbsent(document.getId(), document) == null) {
+            index(document);
+        }
+    }
+    
+    @Override
+    public void restoreRemoval(UUID id) {
+        Document document = documents.remove(id);
+        if (document != null) {
+            documentsByApplication.computeIfPresent(document.getApplication().getId(), (k, list) -> {
+                list.remove(document);
+                return list.isEmpty() ? null : list;
+            });
+        }
+    }
+    
+    @Override
+    public Document findForRestore(UUID id) {
+        return documents.get(id);
+    }
+    
+    @Override
+    public int size() {
+        return documents.size();
+    }
+    
+    // Oldest first, so a restore rebuilds each application's list in upload order
+    @Override
+    public Collection<Document> snapshotRecords() {
+        return documents.values().stream()
+                .sorted(Comparator.comparing(Document::getUploadedAt, Comparator.nullsFirst(Comparator.naturalOrder())))
+                .toList();
+    }
+    
+    private void index(Document document) {
+        documentsByApplication.computeIfAbsent(document.getApplication().getId(), k -> new CopyOnWriteArrayList<>()).add(document);
+        knownIds.add(document.getId());
+    }
+    
+    private void publishDocumentEvent(Document document) {
+        try {
+            ApplicationEventPayload payload = ApplicationEventPayload.builder()
+                    .application(ApplicationMapper.toResponseDTO(document.getApplication()))
+                    .document(DocumentMapper.toResponseDTO(document))
+                    .metadata(EventMetadata.builder()
+                            .eventType("APPLICATION_DOCUMENT_CREATE")
+                            .build())
+                    .operation("DOCUMENT_CREATE")
+                    .build();
+            
+            eventPublisherService.publishApplicationEvent(APPLICATION_TOPIC, document.getApplication().getId().toString(), payload);
+        } catch (Exception e) {
+            log.error("Failed to publish DOCUMENT_CREATE event for document: {}", document.getId(), e);
+            // Don't throw exception to avoid breaking the main business logic
+        }
+    }
 }
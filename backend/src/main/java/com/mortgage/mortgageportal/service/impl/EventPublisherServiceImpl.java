@@ -3,12 +3,17 @@ package com.mortgage.mortgageportal.service.impl;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mortgage.mortgageportal.event.ApplicationEventPayload;
 import com.mortgage.mortgageportal.event.EventMetadata;
+import com.mortgage.mortgageportal.metrics.MessagingMetrics;
 import com.mortgage.mortgageportal.service.EventPublisherService;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.common.header.Header;
 import org.apache.kafka.common.header.internals.RecordHeader;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.jms.core.JmsTemplate;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
@@ -23,9 +28,15 @@ import java.util.concurrent.CompletableFuture;
 @Slf4j
 public class EventPublisherServiceImpl implements EventPublisherService {
 
-    private final KafkaTemplate<String, Object> kafkaTemplate;
-    private final JmsTemplate jmsTemplate;
+    // Both clients are lazy beans, created on the first publish rather than during startup
+    private final ObjectProvider<KafkaTemplate<String, Object>> kafkaTemplate;
+    private final ObjectProvider<JmsTemplate> jmsTemplate;
     private final ObjectMapper objectMapper;
+    // Boot's shared executor: a platform pool by default, virtual threads under the virtual-threads profile
+    private final AsyncTaskExecutor applicationTaskExecutor;
+    // In-process subscribers (SSE streams) receive every event, independent of broker health
+    private final ApplicationEventPublisher localEventPublisher;
+    private final MessagingMetrics messagingMetrics;
 
     private static final String DEFAULT_TOPIC = "loan.applications";
     private static final String TRACE_ID_HEADER = "traceId";
@@ -37,6 +48,7 @@ public class EventPublisherServiceImpl implements EventPublisherService {
 
     @Override
     public void publishApplicationEvent(String topic, String key, ApplicationEventPayload payload, String traceId) {
+        localEventPublisher.publishEvent(payload);
         try {
             // Try Kafka first
             publishToKafka(topic, key, payload, traceId);
@@ -45,7 +57,9 @@ public class EventPublisherServiceImpl implements EventPublisherService {
             try {
                 // Fallback to ActiveMQ
                 publishToActiveMQ(topic, key, payload, traceId);
+                messagingMetrics.fallbackToActiveMq(true);
             } catch (Exception jmsException) {
+                messagingMetrics.fallbackToActiveMq(false);
                 log.error("Failed to publish to both Kafka and ActiveMQ. Kafka error: {}, JMS error: {}", 
                          kafkaException.getMessage(), jmsException.getMessage());
                 throw new RuntimeException("Failed to publish event to any messaging system", jmsException);
@@ -54,6 +68,7 @@ public class EventPublisherServiceImpl implements EventPublisherService {
     }
 
     private void publishToKafka(String topic, String key, ApplicationEventPayload payload, String traceId) {
+        Timer.Sample sample = messagingMetrics.startKafkaSend();
         try {
             // Add traceId to Kafka headers for OpenTelemetry
             List<Header> headers = List.of(
@@ -62,18 +77,22 @@ public class EventPublisherServiceImpl implements EventPublisherService {
 
             ProducerRecord<String, Object> record = new ProducerRecord<>(topic, null, key, payload, headers);
             
-            CompletableFuture<SendResult<String, Object>> future = kafkaTemplate.send(record);
+            CompletableFuture<SendResult<String, Object>> future = kafkaTemplate.getObject().send(record);
+            // Stopped on the producer's thread so queueing for the callback executor is not counted as send latency
+            future.whenComplete((result, ex) -> messagingMetrics.kafkaSendCompleted(sample, ex == null));
             
-            future.whenComplete((result, ex) -> {
+            // Run the callback off the producer's network thread so it never delays other sends
+            future.whenCompleteAsync((result, ex) -> {
                 if (ex == null) {
-                    log.info("Successfully published to Kafka - Topic: {}, Key: {}, Partition: {}, Offset: {}", 
+                    log.debug("Successfully published to Kafka - Topic: {}, Key: {}, Partition: {}, Offset: {}", 
                             topic, key, result.getRecordMetadata().partition(), result.getRecordMetadata().offset());
                 } else {
                     log.error("Failed to publish to Kafka - Topic: {}, Key: {}", topic, key, ex);
                 }
-            });
+            }, applicationTaskExecutor);
 
         } catch (Exception e) {
+            messagingMetrics.kafkaSendCompleted(sample, false);
             log.error("Error publishing to Kafka - Topic: {}, Key: {}", topic, key, e);
             throw e;
         }
@@ -88,7 +107,7 @@ public class EventPublisherServiceImpl implements EventPublisherService {
                     .payload(payload)
                     .build();
 
-            jmsTemplate.convertAndSend(topic, wrapper);
+            jmsTemplate.getObject().convertAndSend(topic, wrapper);
             log.info("Successfully published to ActiveMQ - Topic: {}, Key: {}", topic, key);
             
         } catch (Exception e) {
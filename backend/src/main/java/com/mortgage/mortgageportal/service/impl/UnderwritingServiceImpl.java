@@ -0,0 +1,142 @@
+package com.mortgage.mortgageportal.service.impl;
+
+import com.mortgage.mortgageportal.dto.UnderwritingRulesDTO;
+import com.mortgage.mortgageportal.entities.Application;
+import com.mortgage.mortgageportal.entities.User;
+import com.mortgage.mortgageportal.enums.ApplicationStatus;
+import com.mortgage.mortgageportal.exception.BadRequestException;
+import com.mortgage.mortgageportal.journal.StateJournal;
+import com.mortgage.mortgageportal.pricing.AmortizationEngine;
+import com.mortgage.mortgageportal.rules.ApplicationFacts;
+import com.mortgage.mortgageportal.rules.Assessment;
+import com.mortgage.mortgageportal.rules.RuleEngine;
+import com.mortgage.mortgageportal.service.ApplicationService;
+import com.mortgage.mortgageportal.service.DocumentService;
+import com.mortgage.mortgageportal.service.UnderwritingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UnderwritingServiceImpl implements UnderwritingService {
+
+    private final ApplicationService applicationService;
+    private final DocumentService documentService;
+    private final RuleEngine ruleEngine;
+    private final StateJournal stateJournal;
+
+    @Override
+    public Application assess(Application application) {
+        if (score(application)) {
+            stateJournal.applicationSaved(application);
+        }
+        return application;
+    }
+
+    @Override
+    public int rescorePending() {
+        List<Application> pending = applicationService.listApplications(ApplicationStatus.PENDING, null, null, null);
+        long start = System.nanoTime();
+        Queue<Application> changed = new ConcurrentLinkedQueue<>();
+        ForkJoinPool.commonPool().invoke(new RescoreTask(pending, 0, pending.size(), changed));
+        // Journaled after the pool is done, so workers never wait on the disk and the batch is synced once
+        stateJournal.applicationsSaved(changed);
+        log.info("Re-scored {} pending applications ({} changed) in {} ms",
+                pending.size(), changed.size(), (System.nanoTime() - start) / 1_000_000);
+        return pending.size();
+    }
+
+    @Override
+    public UnderwritingRulesDTO getRules() {
+        return ruleEngine.getRules();
+    }
+
+    @Override
+    public int updateRules(UnderwritingRulesDTO rules) {
+        try {
+            ruleEngine.update(rules);
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            throw new BadRequestException("Invalid underwriting rules: " + e.getMessage());
+        }
+        return rescorePending();
+    }
+
+    // Applies the current rules and reports whether the score or suggestion moved
+    private boolean score(Application application) {
+        Assessment assessment = ruleEngine.evaluate(factsFor(application));
+        if (Objects.equals(application.getRiskScore(), assessment.score())
+                && application.getSuggestedDecision() == assessment.suggestion()) {
+            return false;
+        }
+        application.setRiskScore(assessment.score());
+        application.setSuggestedDecision(assessment.suggestion());
+        return true;
+    }
+
+    private ApplicationFacts factsFor(Application application) {
+        User applicant = application.getUser();
+        String nationalId = applicant != null ? applicant.getNationalId() : null;
+        boolean verified = nationalId != null && !User.UNVERIFIED_NATIONAL_ID.equals(nationalId);
+
+        int otherOpen = 0;
+        int priorRejections = 0;
+        if (verified) {
+            for (Application other : applicationService.listApplicationsByNationalId(nationalId)) {
+                if (other.getId().equals(application.getId())) {
+                    continue;
+                }
+                if (other.getStatus() == ApplicationStatus.PENDING) {
+                    otherOpen++;
+                } else if (other.getStatus() == ApplicationStatus.REJECTED) {
+                    priorRejections++;
+                }
+            }
+        }
+
+        long amountCents = application.getAmount() != null ? AmortizationEngine.toCents(application.getAmount()) : 0;
+        int term = application.getLoanTermMonths() != null ? application.getLoanTermMonths() : 0;
+        return new ApplicationFacts(amountCents, term, verified, otherOpen, priorRejections,
+                documentService.countDocuments(application.getId()));
+    }
+
+    // Splits the backlog in halves until slices are small enough to score sequentially
+    private class RescoreTask extends RecursiveAction {
+        private static final int SEQUENTIAL_THRESHOLD = 512;
+
+        private final List<Application> applications;
+        private final int from;
+        private final int to;
+        private final Queue<Application> changed;
+
+        RescoreTask(List<Application> applications, int from, int to, Queue<Application> changed) {
+            this.applications = applications;
+            this.from = from;
+            this.to = to;
+            this.changed = changed;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    Application application = applications.get(i);
+                    if (score(application)) {
+                        changed.add(application);
+                    }
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new RescoreTask(applications, from, mid, changed), new RescoreTask(applications, mid, to, changed));
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.mortgage.mortgageportal.service.impl;
+
+import com.mortgage.mortgageportal.entities.User;
+import com.mortgage.mortgageportal.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Creates rows in the users table for subjects seen for the first time.
+ * Concurrent callers are coalesced: whichever thread finds no flush running drains everything queued so far
+ * and writes it in one batched upsert, the others wait on their future.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserProvisioner {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO users (full_name, email, national_id, role) VALUES (?, ?, ?, ?) ON CONFLICT (email) DO NOTHING";
+
+    private static final int MAX_BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Queue<PendingUser> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean flushing = new AtomicBoolean();
+
+    public User provision(User candidate) {
+        PendingUser request = new PendingUser(candidate, new CompletableFuture<>());
+        pending.add(request);
+        do {
+            if (!flushing.compareAndSet(false, true)) {
+                break;
+            }
+            try {
+                drainAndFlush();
+            } finally {
+                flushing.set(false);
+            }
+            // Anything queued after our last drain but before the flag was released is picked up here
+        } while (!pending.isEmpty());
+        return request.result().join();
+    }
+
+    private void drainAndFlush() {
+        List<PendingUser> batch = new ArrayList<>();
+        PendingUser next;
+        while (batch.size() < MAX_BATCH_SIZE && (next = pending.poll()) != null) {
+            batch.add(next);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            Map<String, User> candidates = batch.stream()
+                    .collect(Collectors.toMap(p -> p.candidate().getEmail(), PendingUser::candidate, (a, b) -> a, LinkedHashMap::new));
+            List<Object[]> rows = candidates.values().stream()
+                    .map(u -> new Object[]{u.getFullName(), u.getEmail(), u.getNationalId(), u.getRole().name()})
+                    .toList();
+            // Re-read so every caller gets the persisted id, including rows another instance inserted first.
+            // One read-write transaction keeps the re-read on the primary when a read replica is configured.
+            Map<String, User> persisted = transactionTemplate.execute(status -> {
+                jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+                return userRepository.findByEmailIn(candidates.keySet()).stream()
+                        .collect(Collectors.toMap(User::getEmail, Function.identity()));
+            });
+            for (PendingUser p : batch) {
+                User user = persisted.get(p.candidate().getEmail());
+                if (user != null) {
+                    p.result().complete(user);
+                } else {
+                    p.result().completeExceptionally(new IllegalStateException("User was not provisioned: " + p.candidate().getEmail()));
+                }
+            }
+            log.debug("Provisioned batch of {} users", candidates.size());
+        } catch (RuntimeException e) {
+            log.error("Failed to provision batch of {} users", batch.size(), e);
+            batch.forEach(p -> p.result().completeExceptionally(e));
+        }
+    }
+
+    private record PendingUser(User candidate, CompletableFuture<User> result) {
+    }
+}
@@ -1,16 +1,43 @@
 package com.mortgage.mortgageportal.service.impl;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.mortgage.mortgageportal.entities.User;
 import com.mortgage.mortgageportal.enums.UserRole;
+import com.mortgage.mortgageportal.repository.UserRepository;
 import com.mortgage.mortgageportal.service.UserService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Service;
 
-import java.util.UUID;
+import java.time.Duration;
 
 @Service
 public class UserServiceImpl implements UserService {
+
+    private final UserRepository userRepository;
+    private final UserProvisioner userProvisioner;
+
+    // email (JWT subject) -> persisted user, so steady-state requests never hit the database
+    private final Cache<String, User> usersByEmail;
+
+    public UserServiceImpl(UserRepository userRepository,
+                           UserProvisioner userProvisioner,
+                           @Value("${users.cache.max-size:10000}") long cacheMaxSize,
+                           @Value("${users.cache.ttl:PT10M}") Duration cacheTtl) {
+        this.userRepository = userRepository;
+        this.userProvisioner = userProvisioner;
+        this.usersByEmail = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(cacheTtl)
+                .recordStats()
+                .build();
+    }
+
+    public Cache<String, User> getUserCache() {
+        return usersByEmail;
+    }
     
     @Override
     public User getCurrentUser(Authentication authentication) {
@@ -19,25 +46,43 @@ public class UserServiceImpl implements UserService {
         }
         
         String username = authentication.getName();
-        
-        // For demo purposes, create a user based on JWT claims
-        // In production, this would fetch from database
-        User user = new User();
-        user.setId(UUID.randomUUID()); // In real app, get from DB
-        user.setEmail(username);
-        user.setFullName("Demo User");
-        user.setNationalId("123456789");
-        
+        UserRole role = resolveRole(authentication);
+
+        User user = usersByEmail.get(username, email -> userRepository.findByEmail(email)
+                .orElseGet(() -> userProvisioner.provision(newUser(email, role))));
+
+        // The token is authoritative for the role; never mutate the shared cached instance
+        if (user.getRole() != role) {
+            return User.builder()
+                    .id(user.getId())
+                    .fullName(user.getFullName())
+                    .email(user.getEmail())
+                    .nationalId(user.getNationalId())
+                    .role(role)
+                    .createdAt(user.getCreatedAt())
+                    .updatedAt(user.getUpdatedAt())
+                    .build();
+        }
+        return user;
+    }
+
+    private static UserRole resolveRole(Authentication authentication) {
         // Determine role from authorities
-        UserRole role = UserRole.APPLICANT; // default
         for (GrantedAuthority authority : authentication.getAuthorities()) {
             if (authority.getAuthority().equals("ROLE_OFFICER")) {
-                role = UserRole.OFFICER;
-                break;
+                return UserRole.OFFICER;
             }
         }
-        user.setRole(role);
-        
-        return user;
+        return UserRole.APPLICANT;
+    }
+
+    // Profile details are not in the token; first-seen users get placeholders until they complete KYC
+    private static User newUser(String email, UserRole role) {
+        return User.builder()
+                .email(email)
+                .fullName(email)
+                .nationalId(User.UNVERIFIED_NATIONAL_ID)
+                .role(role)
+                .build();
     }
-} 
\ No newline at end of file
+}
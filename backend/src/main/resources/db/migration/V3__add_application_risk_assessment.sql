@@ -0,0 +1,7 @@
+-- Underwriting assessment shown to officers next to each application
+ALTER TABLE applications
+    ADD COLUMN risk_score INTEGER CHECK (risk_score BETWEEN 0 AND 100),
+    ADD COLUMN suggested_decision VARCHAR(20) CHECK (suggested_decision IN ('APPROVED', 'REJECTED'));
+
+COMMENT ON COLUMN applications.risk_score IS 'Rules engine risk score, 0 (clean) to 100';
+COMMENT ON COLUMN applications.suggested_decision IS 'Rules engine suggestion; NULL means manual review';
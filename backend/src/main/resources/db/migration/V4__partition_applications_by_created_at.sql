@@ -0,0 +1,179 @@
+-- Move applications to monthly range partitions on created_at and add an archive for decided history.
+-- A unique constraint on a partitioned table must include the partition key, so the primary key becomes
+-- (id, created_at) and decisions/documents can no longer declare a foreign key to applications(id).
+-- Both are only ever created through an existing application; a delete trigger takes over ON DELETE CASCADE,
+-- and archiving moves them together with their application.
+
+ALTER TABLE applications RENAME TO applications_legacy;
+
+CREATE TABLE applications (
+    id UUID NOT NULL DEFAULT gen_random_uuid(),
+    user_id UUID NOT NULL,
+    status VARCHAR(20) NOT NULL CHECK (status IN ('PENDING', 'APPROVED', 'REJECTED')),
+    amount DECIMAL(15,2) NOT NULL CHECK (amount > 0),
+    loan_term_months INTEGER NOT NULL CHECK (loan_term_months > 0),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    risk_score INTEGER CHECK (risk_score BETWEEN 0 AND 100),
+    suggested_decision VARCHAR(20) CHECK (suggested_decision IN ('APPROVED', 'REJECTED')),
+    PRIMARY KEY (id, created_at),
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+) PARTITION BY RANGE (created_at);
+
+-- Catches rows outside every monthly partition (e.g. a clock far in the future) instead of failing the insert
+CREATE TABLE applications_default PARTITION OF applications DEFAULT;
+
+-- Creates the partition for the month containing the given date; safe to call repeatedly
+CREATE OR REPLACE FUNCTION create_applications_partition(month_start DATE)
+RETURNS VOID AS $$
+DECLARE
+    from_date DATE := date_trunc('month', month_start)::DATE;
+    to_date DATE := (date_trunc('month', month_start) + INTERVAL '1 month')::DATE;
+    partition_name TEXT := 'applications_' || to_char(from_date, 'YYYY_MM');
+BEGIN
+    IF to_regclass(partition_name) IS NULL THEN
+        EXECUTE format('CREATE TABLE %I PARTITION OF applications FOR VALUES FROM (%L) TO (%L)',
+                       partition_name, from_date, to_date);
+    END IF;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Partitions for all existing data through three months ahead
+DO $$
+DECLARE
+    month_start DATE := date_trunc('month', COALESCE((SELECT MIN(created_at) FROM applications_legacy), CURRENT_DATE))::DATE;
+BEGIN
+    WHILE month_start <= (date_trunc('month', CURRENT_DATE) + INTERVAL '3 months')::DATE LOOP
+        PERFORM create_applications_partition(month_start);
+        month_start := (month_start + INTERVAL '1 month')::DATE;
+    END LOOP;
+END;
+$$;
+
+INSERT INTO applications (id, user_id, status, amount, loan_term_months, created_at, updated_at, risk_score, suggested_decision)
+SELECT id, user_id, status, amount, loan_term_months, created_at, updated_at, risk_score, suggested_decision
+FROM applications_legacy;
+
+-- Drops the foreign keys from decisions and documents and the legacy updated_at trigger along with the table;
+-- delete_application_children below replaces the cascade
+DROP TABLE applications_legacy CASCADE;
+
+-- Created on every partition. Officers work the PENDING queue, so the hot index covers only those rows and
+-- stays small however much decided history accumulates.
+CREATE INDEX idx_applications_id ON applications(id);
+CREATE INDEX idx_applications_user_id ON applications(user_id);
+CREATE INDEX idx_applications_status_created_at ON applications(status, created_at);
+CREATE INDEX idx_applications_pending_created_at ON applications(created_at) WHERE status = 'PENDING';
+
+CREATE TRIGGER update_applications_updated_at BEFORE UPDATE ON applications
+    FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
+
+-- What ON DELETE CASCADE did before partitioning. A row that still exists under the same id was moved between
+-- partitions by an UPDATE of created_at, not deleted, so its children stay.
+CREATE OR REPLACE FUNCTION delete_application_children()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM applications WHERE id = OLD.id) THEN
+        RETURN NULL;
+    END IF;
+    DELETE FROM decisions WHERE application_id = OLD.id;
+    DELETE FROM documents WHERE application_id = OLD.id;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER delete_application_children AFTER DELETE ON applications
+    FOR EACH ROW EXECUTE FUNCTION delete_application_children();
+
+-- Cold storage for decided applications past the retention window; same columns plus when they were moved
+CREATE TABLE applications_archive (
+    id UUID PRIMARY KEY,
+    user_id UUID NOT NULL,
+    status VARCHAR(20) NOT NULL CHECK (status IN ('APPROVED', 'REJECTED')),
+    amount DECIMAL(15,2) NOT NULL,
+    loan_term_months INTEGER NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    risk_score INTEGER,
+    suggested_decision VARCHAR(20),
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_applications_archive_user_id ON applications_archive(user_id);
+CREATE INDEX idx_applications_archive_created_at ON applications_archive(created_at);
+
+-- Decisions and documents of archived applications, likewise without foreign keys
+CREATE TABLE decisions_archive (
+    id UUID PRIMARY KEY,
+    application_id UUID NOT NULL,
+    officer_id UUID NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    comments TEXT,
+    decided_at TIMESTAMP NOT NULL,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_decisions_archive_application_id ON decisions_archive(application_id);
+
+CREATE TABLE documents_archive (
+    id UUID PRIMARY KEY,
+    application_id UUID NOT NULL,
+    file_name VARCHAR(255) NOT NULL,
+    file_type VARCHAR(100) NOT NULL,
+    file_size BIGINT NOT NULL,
+    presigned_url TEXT NOT NULL,
+    uploaded_at TIMESTAMP NOT NULL,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_documents_archive_application_id ON documents_archive(application_id);
+
+-- Moves up to batch_size decided applications created before the cutoff into the archive and returns how many
+-- were moved. Each application's decision and documents move to their archives in the same statement, so the
+-- delete trigger finds nothing left to remove. SKIP LOCKED lets concurrent runs (several app instances) share
+-- the work without blocking.
+CREATE OR REPLACE FUNCTION archive_decided_applications(cutoff TIMESTAMP, batch_size INTEGER)
+RETURNS INTEGER AS $$
+DECLARE
+    moved INTEGER;
+BEGIN
+    WITH batch AS (
+        SELECT id, created_at
+        FROM applications
+        WHERE created_at < cutoff
+          AND status IN ('APPROVED', 'REJECTED')
+        LIMIT batch_size
+        FOR UPDATE SKIP LOCKED
+    ), removed AS (
+        DELETE FROM applications a
+        USING batch b
+        WHERE a.id = b.id AND a.created_at = b.created_at
+        RETURNING a.*
+    ), removed_decisions AS (
+        DELETE FROM decisions d
+        USING removed r
+        WHERE d.application_id = r.id
+        RETURNING d.*
+    ), archived_decisions AS (
+        INSERT INTO decisions_archive (id, application_id, officer_id, status, comments, decided_at)
+        SELECT id, application_id, officer_id, status, comments, decided_at
+        FROM removed_decisions
+    ), removed_documents AS (
+        DELETE FROM documents d
+        USING removed r
+        WHERE d.application_id = r.id
+        RETURNING d.*
+    ), archived_documents AS (
+        INSERT INTO documents_archive (id, application_id, file_name, file_type, file_size, presigned_url, uploaded_at)
+        SELECT id, application_id, file_name, file_type, file_size, presigned_url, uploaded_at
+        FROM removed_documents
+    )
+    INSERT INTO applications_archive (id, user_id, status, amount, loan_term_months, created_at, updated_at,
+                                      risk_score, suggested_decision)
+    SELECT id, user_id, status, amount, loan_term_months, created_at, updated_at, risk_score, suggested_decision
+    FROM removed;
+
+    GET DIAGNOSTICS moved = ROW_COUNT;
+    RETURN moved;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,4 @@
+-- Supports the officer amount/term range filters on GET /api/v1/applications. Amount leads because it is the
+-- more selective bound; a term bound is then checked from the index entry without visiting the heap row.
+-- Created on the partitioned parent, so every existing and future monthly partition gets it.
+CREATE INDEX idx_applications_amount_term ON applications(amount, loan_term_months);
@@ -0,0 +1,74 @@
+package com.mortgage.mortgageportal.benchmark;
+
+import com.mortgage.mortgageportal.entities.Application;
+import com.mortgage.mortgageportal.enums.ApplicationStatus;
+import com.mortgage.mortgageportal.pricing.AmortizationEngine;
+import com.mortgage.mortgageportal.pricing.AmortizationSchedule;
+import com.mortgage.mortgageportal.pricing.ApplicationQuote;
+import com.mortgage.mortgageportal.pricing.Quote;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pricing hot paths: a memoized quote for a common (amount, term, rate), an uncached quote for a random amount,
+ * a full 360-month schedule, and the parallel batch over all PENDING applications (warm quote cache, as in steady state).
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.include=AmortizationBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AmortizationBenchmark {
+
+    private static final int[] TERMS = {120, 180, 240, 300, 360};
+
+    @Param({"10000"})
+    private int pendingApplications;
+
+    private AmortizationEngine engine;
+    private List<Application> pending;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        engine = new AmortizationEngine("120=5.25,180=5.50,240=5.75,360=6.00,600=6.50", 0.36, 100_000);
+        pending = new ArrayList<>(pendingApplications);
+        for (int i = 0; i < pendingApplications; i++) {
+            pending.add(Application.builder()
+                    .id(UUID.randomUUID())
+                    .status(ApplicationStatus.PENDING)
+                    .amount(BigDecimal.valueOf(5_000_000 + i * 1_337L, 2))
+                    .loanTermMonths(TERMS[i % TERMS.length])
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public Quote memoizedQuote() {
+        return engine.quote(25_000_000, 360, 600);
+    }
+
+    @Benchmark
+    public Quote uncachedQuote() {
+        // Random cents keep this off the quote cache; the annuity factor is still memoized
+        return engine.quote(ThreadLocalRandom.current().nextLong(1_000_000, 100_000_000_000L), 360, 600);
+    }
+
+    @Benchmark
+    public AmortizationSchedule schedule360() {
+        return engine.schedule(25_000_000, 360, 600);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<ApplicationQuote> priceAllPending() {
+        return engine.priceAll(pending);
+    }
+}
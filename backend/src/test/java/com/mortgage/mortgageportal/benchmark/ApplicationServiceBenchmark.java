@@ -0,0 +1,112 @@
+package com.mortgage.mortgageportal.benchmark;
+
+import com.mortgage.mortgageportal.entities.Application;
+import com.mortgage.mortgageportal.entities.User;
+import com.mortgage.mortgageportal.enums.ApplicationStatus;
+import com.mortgage.mortgageportal.enums.UserRole;
+import com.mortgage.mortgageportal.journal.StateJournal;
+import com.mortgage.mortgageportal.metrics.PipelineStats;
+import com.mortgage.mortgageportal.service.impl.ApplicationServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookups and officer list queries against the in-memory application store at production-like sizes.
+ * The store is bulk loaded through the recovery path, which builds the same indexes as createApplication
+ * without publishing an event per record. Records are spread over 1,000 applicants, all statuses, five loan
+ * terms and roughly one creation per minute going back from now.
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.include=ApplicationServiceBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class ApplicationServiceBenchmark {
+
+    private static final int APPLICANTS = 1_000;
+    private static final int[] TERMS = {120, 180, 240, 300, 360};
+
+    @Param({"10000", "100000", "1000000"})
+    private int records;
+
+    private ApplicationServiceImpl applicationService;
+    private UUID[] ids;
+    private User[] owners;
+    private User officer;
+    private LocalDateTime lastDay;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        applicationService = new ApplicationServiceImpl(new NoopEventPublisher(), new PipelineStats(), StateJournal.NOOP);
+        officer = User.builder().id(UUID.randomUUID()).email("officer@example.com").role(UserRole.OFFICER).build();
+        User[] applicants = new User[APPLICANTS];
+        for (int i = 0; i < APPLICANTS; i++) {
+            applicants[i] = User.builder()
+                    .id(UUID.randomUUID())
+                    .email("applicant" + i + "@example.com")
+                    .fullName("Applicant " + i)
+                    .nationalId(String.valueOf(100_000_000 + i))
+                    .role(UserRole.APPLICANT)
+                    .build();
+        }
+
+        ApplicationStatus[] statuses = ApplicationStatus.values();
+        LocalDateTime now = LocalDateTime.now();
+        ids = new UUID[records];
+        owners = new User[records];
+        applicationService.beginRestore();
+        // Oldest first, the order the store would have seen them in
+        for (int i = records - 1; i >= 0; i--) {
+            LocalDateTime created = now.minusMinutes(i);
+            Application app = Application.builder()
+                    .id(UUID.randomUUID())
+                    .user(applicants[i % APPLICANTS])
+                    .status(statuses[i % statuses.length])
+                    .amount(BigDecimal.valueOf(50_000 + (i * 7_919L) % 950_000))
+                    .loanTermMonths(TERMS[i % TERMS.length])
+                    .createdAt(created)
+                    .updatedAt(created)
+                    .build();
+            applicationService.restore(app);
+            ids[i] = app.getId();
+            owners[i] = app.getUser();
+        }
+        applicationService.endRestore();
+        lastDay = now.minusDays(1);
+    }
+
+    @Benchmark
+    public Application getByIdAsOfficer() {
+        return applicationService.getApplicationById(ids[ThreadLocalRandom.current().nextInt(records)], officer);
+    }
+
+    @Benchmark
+    public Application getByIdAsOwner() {
+        int i = ThreadLocalRandom.current().nextInt(records);
+        return applicationService.getApplicationById(ids[i], owners[i]);
+    }
+
+    @Benchmark
+    public List<Application> listByStatusInLastDay() {
+        return applicationService.listApplications(ApplicationStatus.PENDING, lastDay, null, null);
+    }
+
+    @Benchmark
+    public List<Application> listByNationalId() {
+        return applicationService.listApplications(null, null, null, "100000042");
+    }
+
+    @Benchmark
+    public List<Application> listByAmountAndTerm() {
+        return applicationService.listApplications(null, null, null, null,
+                new BigDecimal("300000"), new BigDecimal("310000"), 240, 240);
+    }
+}
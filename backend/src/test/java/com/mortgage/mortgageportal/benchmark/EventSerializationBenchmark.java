@@ -0,0 +1,75 @@
+package com.mortgage.mortgageportal.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mortgage.mortgageportal.config.KafkaConfig;
+import com.mortgage.mortgageportal.entities.Application;
+import com.mortgage.mortgageportal.entities.User;
+import com.mortgage.mortgageportal.enums.ApplicationStatus;
+import com.mortgage.mortgageportal.enums.UserRole;
+import com.mortgage.mortgageportal.event.ApplicationEventPayload;
+import com.mortgage.mortgageportal.event.EventMetadata;
+import com.mortgage.mortgageportal.mapper.ApplicationMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ApplicationEventPayload through the application's ObjectMapper (KafkaConfig), as the publisher sends it.
+ * "buildAndSerialize" adds the payload construction ApplicationServiceImpl does per event.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private Application application;
+    private ApplicationEventPayload payload;
+    private byte[] serialized;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        objectMapper = new KafkaConfig().objectMapper();
+        LocalDateTime now = LocalDateTime.now();
+        application = Application.builder()
+                .id(UUID.randomUUID())
+                .user(User.builder().id(UUID.randomUUID()).role(UserRole.APPLICANT).build())
+                .status(ApplicationStatus.PENDING)
+                .amount(new BigDecimal("250000.00"))
+                .loanTermMonths(240)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        payload = toPayload(application);
+        serialized = objectMapper.writeValueAsBytes(payload);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(payload);
+    }
+
+    @Benchmark
+    public byte[] buildAndSerialize() throws Exception {
+        return objectMapper.writeValueAsBytes(toPayload(application));
+    }
+
+    @Benchmark
+    public ApplicationEventPayload deserialize() throws Exception {
+        return objectMapper.readValue(serialized, ApplicationEventPayload.class);
+    }
+
+    private static ApplicationEventPayload toPayload(Application application) {
+        return ApplicationEventPayload.builder()
+                .application(ApplicationMapper.toResponseDTO(application))
+                .metadata(EventMetadata.builder().eventType("APPLICATION_CREATE").build())
+                .operation("CREATE")
+                .build();
+    }
+}
@@ -0,0 +1,62 @@
+package com.mortgage.mortgageportal.benchmark;
+
+import com.mortgage.mortgageportal.config.JwtAuthFilter;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of JwtAuthFilter with and without the verified-token cache.
+ * "replayed" sends the same bearer token every time, which is what a client session looks like.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtAuthFilterBenchmark {
+
+    static final String SECRET = "my-very-secret-key-for-jwt-signing-1234567890";
+
+    @Param({"0", "10000"})
+    private int cacheSize;
+
+    private JwtAuthFilter filter;
+    private String token;
+    private final FilterChain chain = (request, response) -> { };
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        filter = new JwtAuthFilter(cacheSize);
+        token = mintToken("applicant@example.com", List.of("APPLICANT"));
+    }
+
+    @Benchmark
+    public Object replayed() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/applications");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        Object auth = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return auth;
+    }
+
+    static String mintToken(String subject, List<String> roles) {
+        return Jwts.builder()
+                .subject(subject)
+                .claim("roles", roles)
+                .expiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+}
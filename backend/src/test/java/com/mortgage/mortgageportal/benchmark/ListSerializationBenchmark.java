@@ -0,0 +1,89 @@
+package com.mortgage.mortgageportal.benchmark;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.mortgage.mortgageportal.config.KafkaConfig;
+import com.mortgage.mortgageportal.dto.ApplicationResponseDTO;
+import com.mortgage.mortgageportal.entities.Application;
+import com.mortgage.mortgageportal.entities.User;
+import com.mortgage.mortgageportal.enums.ApplicationStatus;
+import com.mortgage.mortgageportal.enums.UserRole;
+import com.mortgage.mortgageportal.mapper.ApplicationMapper;
+import com.mortgage.mortgageportal.serialization.ResponseRowWriters;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Officer list response: DTO list + bean serialization (the old controller path) versus
+ * streaming rows straight from the entities. Run with -prof gc to compare allocation per response.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ListSerializationBenchmark {
+
+    @Param({"100", "5000"})
+    private int rows;
+
+    private ObjectMapper objectMapper;
+    private List<Application> applications;
+    private ByteArrayOutputStream out;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = new KafkaConfig().objectMapper();
+        User user = User.builder().id(UUID.randomUUID()).role(UserRole.APPLICANT).build();
+        ApplicationStatus[] statuses = ApplicationStatus.values();
+        applications = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            LocalDateTime created = LocalDateTime.now().minusMinutes(i);
+            applications.add(Application.builder()
+                    .id(UUID.randomUUID())
+                    .user(user)
+                    .status(statuses[i % statuses.length])
+                    .amount(BigDecimal.valueOf(50_000 + i * 137L, 2))
+                    .loanTermMonths(120 + (i % 300))
+                    .createdAt(created)
+                    .updatedAt(created)
+                    .build());
+        }
+        out = new ByteArrayOutputStream(rows * 256);
+    }
+
+    @Benchmark
+    public int dtoListBeanSerialization() throws Exception {
+        out.reset();
+        List<ApplicationResponseDTO> dtos = applications.stream()
+                .map(ApplicationMapper::toResponseDTO)
+                .collect(Collectors.toList());
+        objectMapper.writeValue(out, dtos);
+        return out.size();
+    }
+
+    @Benchmark
+    public int streamedRows() throws Exception {
+        out.reset();
+        SerializerProvider provider = objectMapper.getSerializerProviderInstance();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.writeStartArray();
+            for (Application app : applications) {
+                ResponseRowWriters.writeApplication(app, generator, provider);
+            }
+            generator.writeEndArray();
+        }
+        return out.size();
+    }
+}
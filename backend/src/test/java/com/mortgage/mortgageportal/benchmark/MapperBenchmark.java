@@ -0,0 +1,90 @@
+package com.mortgage.mortgageportal.benchmark;
+
+import com.mortgage.mortgageportal.dto.ApplicationRequestDTO;
+import com.mortgage.mortgageportal.dto.ApplicationResponseDTO;
+import com.mortgage.mortgageportal.dto.CreateDocumentRequest;
+import com.mortgage.mortgageportal.dto.DocumentResponse;
+import com.mortgage.mortgageportal.entities.Application;
+import com.mortgage.mortgageportal.entities.Document;
+import com.mortgage.mortgageportal.entities.User;
+import com.mortgage.mortgageportal.enums.ApplicationStatus;
+import com.mortgage.mortgageportal.enums.UserRole;
+import com.mortgage.mortgageportal.mapper.ApplicationMapper;
+import com.mortgage.mortgageportal.mapper.DocumentMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity/DTO conversions done on every request and event. Each is a handful of field copies, so these
+ * mostly catch a conversion that starts allocating or reflecting where it did not before.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    private User user;
+    private Application application;
+    private Document document;
+    private ApplicationRequestDTO applicationRequest;
+    private CreateDocumentRequest documentRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        user = User.builder().id(UUID.randomUUID()).email("applicant@example.com").role(UserRole.APPLICANT).build();
+        application = Application.builder()
+                .id(UUID.randomUUID())
+                .user(user)
+                .status(ApplicationStatus.PENDING)
+                .amount(new BigDecimal("250000.00"))
+                .loanTermMonths(240)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        document = Document.builder()
+                .id(UUID.randomUUID())
+                .application(application)
+                .fileName("payslip.pdf")
+                .fileType("application/pdf")
+                .fileSize(1024L)
+                .presignedUrl("https://bucket.s3.amazonaws.com/payslip.pdf")
+                .uploadedAt(now)
+                .build();
+        applicationRequest = new ApplicationRequestDTO(new BigDecimal("250000.00"), 240);
+        documentRequest = CreateDocumentRequest.builder()
+                .applicationId(application.getId())
+                .fileName("payslip.pdf")
+                .fileType("application/pdf")
+                .fileSize(1024L)
+                .presignedUrl("https://bucket.s3.amazonaws.com/payslip.pdf")
+                .build();
+    }
+
+    @Benchmark
+    public Application applicationToEntity() {
+        return ApplicationMapper.toEntity(applicationRequest, user);
+    }
+
+    @Benchmark
+    public ApplicationResponseDTO applicationToResponse() {
+        return ApplicationMapper.toResponseDTO(application);
+    }
+
+    @Benchmark
+    public Document documentToEntity() {
+        return DocumentMapper.toEntity(documentRequest, application);
+    }
+
+    @Benchmark
+    public DocumentResponse documentToResponse() {
+        return DocumentMapper.toResponseDTO(document);
+    }
+}
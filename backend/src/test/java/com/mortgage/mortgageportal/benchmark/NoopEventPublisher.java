@@ -0,0 +1,18 @@
+package com.mortgage.mortgageportal.benchmark;
+
+import com.mortgage.mortgageportal.event.ApplicationEventPayload;
+import com.mortgage.mortgageportal.service.EventPublisherService;
+
+/**
+ * Drops every event, so benchmarks measure the service and not a broker (or a mock recording each call).
+ */
+final class NoopEventPublisher implements EventPublisherService {
+
+    @Override
+    public void publishApplicationEvent(String topic, String key, ApplicationEventPayload payload) {
+    }
+
+    @Override
+    public void publishApplicationEvent(String topic, String key, ApplicationEventPayload payload, String traceId) {
+    }
+}
@@ -0,0 +1,137 @@
+package com.mortgage.mortgageportal.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.mortgage.mortgageportal.controller.ApplicationController;
+import com.mortgage.mortgageportal.dto.ApplicationRequestDTO;
+import com.mortgage.mortgageportal.entities.Application;
+import com.mortgage.mortgageportal.entities.User;
+import com.mortgage.mortgageportal.enums.UserRole;
+import com.mortgage.mortgageportal.journal.StateJournal;
+import com.mortgage.mortgageportal.metrics.PipelineStats;
+import com.mortgage.mortgageportal.serialization.JsonStreamBodyHttpMessageConverter;
+import com.mortgage.mortgageportal.service.UserService;
+import com.mortgage.mortgageportal.service.impl.ApplicationServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Platform-thread pool (sized like Tomcat's default 200 workers) versus virtual-thread-per-request on an endpoint
+ * whose cost is dominated by blocking I/O. Each request blocks once for blockingMillis in user resolution,
+ * standing in for a JDBC round trip. Throughput is reported by JMH; p50/p99 request latency is printed per trial.
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.include=ThreadingModelBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ThreadingModelBenchmark {
+
+    private static final int CONCURRENT_REQUESTS = 2000;
+    private static final int MAX_SAMPLES = 2_000_000;
+
+    @Param({"platform", "virtual"})
+    private String threads;
+
+    @Param({"20"})
+    private long blockingMillis;
+
+    private ExecutorService executor;
+    private MockMvc mockMvc;
+    private Authentication auth;
+    private UUID applicationId;
+
+    private long[] latencies;
+    private final AtomicInteger sampleCount = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = "virtual".equals(threads)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(200);
+
+        User user = User.builder()
+                .id(UUID.randomUUID())
+                .email("applicant@example.com")
+                .fullName("Applicant")
+                .nationalId("123456789")
+                .role(UserRole.APPLICANT)
+                .build();
+        ApplicationServiceImpl applicationService = new ApplicationServiceImpl(new NoopEventPublisher(), new PipelineStats(), StateJournal.NOOP);
+        Application app = applicationService.createApplication(
+                new ApplicationRequestDTO(new BigDecimal("250000"), 240), user);
+        applicationId = app.getId();
+
+        UserService blockingUserService = authentication -> {
+            sleep(blockingMillis);
+            return user;
+        };
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new ApplicationController(applicationService, null, null, blockingUserService, null, null, null))
+                .setMessageConverters(new JsonStreamBodyHttpMessageConverter(new ObjectMapper().registerModule(new JavaTimeModule())))
+                .build();
+        auth = new UsernamePasswordAuthenticationToken("applicant@example.com", null,
+                List.of(new SimpleGrantedAuthority("ROLE_APPLICANT")));
+        latencies = new long[MAX_SAMPLES];
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CONCURRENT_REQUESTS)
+    public void getApplication() throws Exception {
+        List<Future<?>> futures = new ArrayList<>(CONCURRENT_REQUESTS);
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            long submitted = System.nanoTime();
+            futures.add(executor.submit(() -> {
+                mockMvc.perform(get("/api/v1/applications/{id}", applicationId).principal(auth));
+                int slot = sampleCount.getAndIncrement();
+                if (slot < MAX_SAMPLES) {
+                    latencies[slot] = System.nanoTime() - submitted;
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+        int n = Math.min(sampleCount.get(), MAX_SAMPLES);
+        if (n == 0) {
+            return;
+        }
+        long[] sorted = Arrays.copyOf(latencies, n);
+        Arrays.sort(sorted);
+        System.out.printf("%n[%s] requests=%d p50=%.1fms p99=%.1fms%n", threads, n,
+                sorted[(int) (n * 0.50)] / 1e6, sorted[Math.min(n - 1, (int) (n * 0.99))] / 1e6);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.mortgage.mortgageportal.config;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtAuthFilterTest {
+
+    private static final String SECRET = "my-very-secret-key-for-jwt-signing-1234567890";
+
+    private final JwtAuthFilter filter = new JwtAuthFilter(100);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilter_ShouldAuthenticateValidToken() throws Exception {
+        // Given
+        String token = token(SECRET, new Date(System.currentTimeMillis() + 60_000));
+
+        // When
+        Authentication auth = filter(token);
+
+        // Then
+        assertThat(auth).isNotNull();
+        assertThat(auth.getName()).isEqualTo("officer@example.com");
+        assertThat(auth.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_OFFICER");
+    }
+
+    @Test
+    void doFilter_ShouldReturnSameAuthenticationForReplayedToken() throws Exception {
+        // Given
+        String token = token(SECRET, new Date(System.currentTimeMillis() + 60_000));
+
+        // When
+        Authentication first = filter(token);
+        Authentication second = filter(token);
+
+        // Then
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void doFilter_ShouldRejectTokenSignedWithOtherKey() throws Exception {
+        // Given
+        String token = token("another-secret-key-that-is-long-enough-for-hs256", new Date(System.currentTimeMillis() + 60_000));
+
+        // When & Then
+        assertThat(filter(token)).isNull();
+    }
+
+    @Test
+    void doFilter_ShouldRejectExpiredToken() throws Exception {
+        // Given
+        String token = token(SECRET, new Date(System.currentTimeMillis() - 60_000));
+
+        // When & Then
+        assertThat(filter(token)).isNull();
+    }
+
+    private Authentication filter(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/applications");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private static String token(String secret, Date expiration) {
+        return Jwts.builder()
+                .subject("officer@example.com")
+                .claim("roles", List.of("OFFICER"))
+                .expiration(expiration)
+                .signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+}
@@ -0,0 +1,77 @@
+package com.mortgage.mortgageportal.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replica = mock(DataSource.class);
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+
+    private ReadWriteRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        routing = new ReadWriteRoutingDataSource(primary, replica, Duration.ofMinutes(1), 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void getConnection_ShouldUseReplicaForReadOnlyAndPrimaryOtherwise() throws Exception {
+        // When
+        Connection write = routing.getConnection();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        Connection read = routing.getConnection();
+
+        // Then
+        assertThat(write).isSameAs(primaryConnection);
+        assertThat(read).isSameAs(replicaConnection);
+        assertThat(routing.getRouteCount(ReadWriteRoutingDataSource.Target.PRIMARY)).isEqualTo(1);
+        assertThat(routing.getRouteCount(ReadWriteRoutingDataSource.Target.REPLICA)).isEqualTo(1);
+    }
+
+    @Test
+    void getConnection_ShouldKeepUserOnPrimaryAfterTheirWrite() throws Exception {
+        // Given
+        authenticateAs("officer@example.com");
+        routing.getConnection();
+
+        // When
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        Connection ownRead = routing.getConnection();
+        authenticateAs("applicant@example.com");
+        Connection otherRead = routing.getConnection();
+
+        // Then
+        assertThat(ownRead).isSameAs(primaryConnection);
+        assertThat(otherRead).isSameAs(replicaConnection);
+        assertThat(routing.getPinnedReadCount()).isEqualTo(1);
+    }
+
+    private static void authenticateAs(String name) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(name, null, List.of()));
+    }
+}
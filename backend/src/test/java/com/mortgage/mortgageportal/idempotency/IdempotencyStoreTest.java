@@ -0,0 +1,119 @@
+package com.mortgage.mortgageportal.idempotency;
+
+import com.mortgage.mortgageportal.exception.ConflictException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdempotencyStoreTest {
+
+    private IdempotencyStore store;
+    private AtomicInteger executions;
+
+    @BeforeEach
+    void setUp() {
+        store = new IdempotencyStore(1_000, Duration.ofMinutes(5), Duration.ofSeconds(5));
+        executions = new AtomicInteger();
+    }
+
+    @Test
+    void execute_ShouldReplayStoredResponseForRepeatedKey() {
+        // When
+        ResponseEntity<Integer> first = store.execute("key-1", "scope", "body", this::create);
+        ResponseEntity<Integer> retry = store.execute("key-1", "scope", "body", this::create);
+
+        // Then
+        assertThat(executions).hasValue(1);
+        assertThat(retry.getBody()).isEqualTo(first.getBody());
+        assertThat(retry.getHeaders().getFirst(IdempotencyStore.REPLAYED_HEADER)).isEqualTo("true");
+    }
+
+    @Test
+    void execute_ShouldKeepKeysOfDifferentScopesApart() {
+        // When
+        store.execute("key-1", "alice", "body", this::create);
+        store.execute("key-1", "bob", "body", this::create);
+
+        // Then
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    void execute_ShouldRejectReusedKeyWithDifferentRequest() {
+        // Given
+        store.execute("key-1", "scope", "body", this::create);
+
+        // When / Then
+        assertThatThrownBy(() -> store.execute("key-1", "scope", "other body", this::create))
+                .isInstanceOf(ConflictException.class);
+    }
+
+    @Test
+    void execute_ShouldRejectDifferentRequestWithSameHashCode() {
+        // Given "Aa" and "BB" share a hash code
+        store.execute("key-1", "scope", "Aa", this::create);
+
+        // When / Then
+        assertThatThrownBy(() -> store.execute("key-1", "scope", "BB", this::create))
+                .isInstanceOf(ConflictException.class);
+    }
+
+    @Test
+    void execute_ShouldForgetFailedExecution() {
+        // Given
+        assertThatThrownBy(() -> store.execute("key-1", "scope", "body", () -> {
+            throw new IllegalStateException("broker down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // When
+        ResponseEntity<Integer> retry = store.execute("key-1", "scope", "body", this::create);
+
+        // Then
+        assertThat(executions).hasValue(1);
+        assertThat(retry.getHeaders().containsKey(IdempotencyStore.REPLAYED_HEADER)).isFalse();
+    }
+
+    @Test
+    void execute_ShouldMakeInFlightDuplicateWaitForFirstExecution() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<ResponseEntity<Integer>> first = CompletableFuture.supplyAsync(() ->
+                store.execute("key-1", "scope", "body", () -> {
+                    started.countDown();
+                    await(release);
+                    return create();
+                }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        CompletableFuture<ResponseEntity<Integer>> duplicate = CompletableFuture.supplyAsync(() ->
+                store.execute("key-1", "scope", "body", this::create));
+        release.countDown();
+
+        // Then
+        assertThat(duplicate.get(5, TimeUnit.SECONDS).getBody()).isEqualTo(first.get(5, TimeUnit.SECONDS).getBody());
+        assertThat(executions).hasValue(1);
+    }
+
+    private ResponseEntity<Integer> create() {
+        return ResponseEntity.ok(executions.incrementAndGet());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
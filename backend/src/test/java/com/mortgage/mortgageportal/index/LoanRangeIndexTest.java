@@ -0,0 +1,69 @@
+package com.mortgage.mortgageportal.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoanRangeIndexTest {
+
+    @Test
+    void find_ShouldMatchBruteForceAcrossGrowthAndRemovals() {
+        // Given
+        LoanRangeIndex<String> index = new LoanRangeIndex<>();
+        Random random = new Random(42);
+        List<long[]> keys = new ArrayList<>();
+        // The index matches values by identity, so removals must pass the instances that were put
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            long amount = 1_000_000L + random.nextInt(100) * 500_000L;
+            int term = 60 + random.nextInt(10) * 36;
+            keys.add(new long[]{amount, term});
+            values.add("app-" + i);
+            index.put(values.get(i), amount, term);
+        }
+        for (int i = 0; i < 5_000; i += 3) {
+            index.remove(values.get(i));
+        }
+
+        // When
+        List<String> found = index.find(10_000_000L, 20_000_000L, 120, 240);
+
+        // Then
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            long[] key = keys.get(i);
+            if (i % 3 != 0 && key[0] >= 10_000_000L && key[0] <= 20_000_000L && key[1] >= 120 && key[1] <= 240) {
+                expected.add(values.get(i));
+            }
+        }
+        assertThat(index.size()).isEqualTo(5_000 - 1_667);
+        assertThat(found).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    @Test
+    void put_ShouldMoveValueWhenKeysChange() {
+        // Given
+        LoanRangeIndex<String> index = new LoanRangeIndex<>();
+        index.put("a", 10_000_000L, 240);
+
+        // When
+        index.put("a", 30_000_000L, 360);
+
+        // Then
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.find(0, 20_000_000L, Integer.MIN_VALUE, Integer.MAX_VALUE)).isEmpty();
+        assertThat(index.find(30_000_000L, 30_000_000L, 360, 360)).containsExactly("a");
+    }
+
+    @Test
+    void find_ShouldReturnNothingForInvertedBounds() {
+        LoanRangeIndex<String> index = new LoanRangeIndex<>();
+        index.put("a", 10_000_000L, 240);
+
+        assertThat(index.find(20_000_000L, 10_000_000L, Integer.MIN_VALUE, Integer.MAX_VALUE)).isEmpty();
+    }
+}
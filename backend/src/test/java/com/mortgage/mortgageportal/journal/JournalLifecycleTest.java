@@ -0,0 +1,157 @@
+package com.mortgage.mortgageportal.journal;
+
+import com.mortgage.mortgageportal.dto.ApplicationRequestDTO;
+import com.mortgage.mortgageportal.dto.CreateDocumentRequest;
+import com.mortgage.mortgageportal.dto.DecisionRequestDTO;
+import com.mortgage.mortgageportal.entities.Application;
+import com.mortgage.mortgageportal.entities.User;
+import com.mortgage.mortgageportal.enums.ApplicationStatus;
+import com.mortgage.mortgageportal.enums.DecisionStatus;
+import com.mortgage.mortgageportal.enums.UserRole;
+import com.mortgage.mortgageportal.exception.ResourceNotFoundException;
+import com.mortgage.mortgageportal.metrics.PipelineStats;
+import com.mortgage.mortgageportal.service.EventPublisherService;
+import com.mortgage.mortgageportal.service.impl.ApplicationServiceImpl;
+import com.mortgage.mortgageportal.service.impl.DecisionServiceImpl;
+import com.mortgage.mortgageportal.service.impl.DocumentServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class JournalLifecycleTest {
+
+    private static final int SEGMENT_BYTES = 64 * 1024;
+
+    @TempDir
+    Path directory;
+
+    private final EventPublisherService publisher = mock(EventPublisherService.class);
+
+    private User applicant;
+    private User officer;
+
+    @BeforeEach
+    void setUp() {
+        applicant = User.builder().id(UUID.randomUUID()).fullName("John Doe").email("john@example.com")
+                .nationalId("123456789").role(UserRole.APPLICANT).build();
+        officer = User.builder().id(UUID.randomUUID()).fullName("Officer Smith").email("officer@example.com")
+                .nationalId("111222333").role(UserRole.OFFICER).build();
+    }
+
+    @Test
+    void recover_ShouldRebuildStoresFromJournalAndThenFromSnapshot() {
+        // Given: a session of changes, spanning several segments
+        MappedJournal journal = new MappedJournal(directory, SEGMENT_BYTES, true);
+        Stores before = new Stores(new DurableStateJournal(journal));
+        Application kept = before.applications.createApplication(request("250000.00", 360), applicant);
+        Application removed = before.applications.createApplication(request("90000.00", 120), applicant);
+        for (int i = 0; i < 500; i++) {
+            before.applications.createApplication(request("100000.00", 240), applicant);
+        }
+        before.applications.updateApplication(kept.getId(), request("260000.00", 300), applicant);
+        before.documents.createDocument(CreateDocumentRequest.builder().applicationId(kept.getId())
+                .fileName("payslip.pdf").fileType("application/pdf").fileSize(1024L).presignedUrl("s3://payslip").build(), applicant);
+        before.decisions.decideApplication(kept.getId(), decision(DecisionStatus.APPROVED), officer);
+        before.applications.deleteApplication(removed.getId(), applicant);
+        journal.close();
+
+        // When
+        Stores fromJournal = recover();
+
+        // Then
+        assertRecovered(fromJournal, kept.getId(), removed.getId());
+
+        // When: compacted into a snapshot, with no journal tail left to replay
+        MappedJournal reopened = new MappedJournal(directory, SEGMENT_BYTES, true);
+        new JournalLifecycle(reopened, fromJournal.applications, fromJournal.documents, fromJournal.decisions, directory)
+                .snapshot();
+        reopened.close();
+        Stores fromSnapshot = recover();
+
+        // Then
+        assertRecovered(fromSnapshot, kept.getId(), removed.getId());
+    }
+
+    @Test
+    void recover_ShouldRestoreDecidedApplicationTogetherWithItsDecision() {
+        // Given
+        MappedJournal journal = new MappedJournal(directory, SEGMENT_BYTES, true);
+        Stores before = new Stores(new DurableStateJournal(journal));
+        Application app = before.applications.createApplication(request("180000.00", 240), applicant);
+        long appendedBeforeDecision = journal.appendedCount();
+        before.decisions.decideApplication(app.getId(), decision(DecisionStatus.REJECTED), officer);
+
+        // Then: one record, so a crash cannot separate the status change from the decision
+        assertThat(journal.appendedCount()).isEqualTo(appendedBeforeDecision + 1);
+        journal.close();
+
+        // When
+        Stores recovered = recover();
+
+        // Then
+        Application decided = recovered.applications.getApplicationById(app.getId(), officer);
+        assertThat(decided.getStatus()).isEqualTo(ApplicationStatus.REJECTED);
+        assertThat(recovered.decisions.findForRestore(app.getId()))
+                .satisfies(d -> assertThat(d.getStatus()).isEqualTo(DecisionStatus.REJECTED))
+                .satisfies(d -> assertThat(d.getApplication()).isSameAs(decided));
+        assertThat(recovered.pipelineStats.getCount(ApplicationStatus.PENDING)).isZero();
+        assertThat(recovered.pipelineStats.getCount(ApplicationStatus.REJECTED)).isEqualTo(1);
+    }
+
+    private void assertRecovered(Stores stores, UUID keptId, UUID removedId) {
+        Application kept = stores.applications.getApplicationById(keptId, officer);
+        assertThat(kept.getAmount()).isEqualByComparingTo("260000.00");
+        assertThat(kept.getLoanTermMonths()).isEqualTo(300);
+        assertThat(kept.getStatus()).isEqualTo(ApplicationStatus.APPROVED);
+        assertThat(stores.documents.getDocumentsByApplicationId(keptId, officer))
+                .singleElement()
+                .satisfies(doc -> assertThat(doc.getApplication()).isSameAs(kept));
+        assertThat(stores.decisions.findForRestore(keptId).getStatus()).isEqualTo(DecisionStatus.APPROVED);
+        assertThatThrownBy(() -> stores.applications.getApplicationById(removedId, officer))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(stores.applications.listApplications(null, null, null, null)).hasSize(501);
+        assertThat(stores.applications.listApplications(null, null, null, null,
+                new BigDecimal("260000"), null, null, null)).containsExactly(kept);
+        assertThat(stores.applications.searchApplications("john@", 10)).isNotEmpty();
+        assertThat(stores.pipelineStats.getCount(ApplicationStatus.PENDING)).isEqualTo(500);
+    }
+
+    private Stores recover() {
+        MappedJournal journal = new MappedJournal(directory, SEGMENT_BYTES, true);
+        Stores stores = new Stores(StateJournal.NOOP);
+        new JournalLifecycle(journal, stores.applications, stores.documents, stores.decisions, directory).recover();
+        journal.close();
+        return stores;
+    }
+
+    private static ApplicationRequestDTO request(String amount, int term) {
+        return ApplicationRequestDTO.builder().amount(new BigDecimal(amount)).loanTermMonths(term).build();
+    }
+
+    private static DecisionRequestDTO decision(DecisionStatus status) {
+        DecisionRequestDTO request = new DecisionRequestDTO();
+        request.setStatus(status);
+        return request;
+    }
+
+    private final class Stores {
+        final PipelineStats pipelineStats = new PipelineStats();
+        final ApplicationServiceImpl applications;
+        final DocumentServiceImpl documents;
+        final DecisionServiceImpl decisions;
+
+        Stores(StateJournal journal) {
+            applications = new ApplicationServiceImpl(publisher, pipelineStats, journal);
+            documents = new DocumentServiceImpl(applications, publisher, journal);
+            decisions = new DecisionServiceImpl(applications, publisher, pipelineStats, journal);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.mortgage.mortgageportal.limiter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AimdLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+    @Test
+    void tryAcquire_ShouldRejectOnceLimitIsReached() {
+        // Given
+        AimdLimiter limiter = new AimdLimiter("test", 2, 1, 10, 100, 0.5);
+
+        // When & Then
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+        assertThat(limiter.getRejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void release_ShouldBackOffOnSlowOrFailedRequests() {
+        // Given
+        AimdLimiter limiter = new AimdLimiter("test", 8, 1, 10, 100, 0.5);
+
+        // When
+        limiter.tryAcquire();
+        limiter.release(SLOW, true);
+        limiter.tryAcquire();
+        limiter.release(FAST, false);
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(2);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void release_ShouldNotGoBelowMinimum() {
+        // Given
+        AimdLimiter limiter = new AimdLimiter("test", 2, 2, 10, 100, 0.1);
+
+        // When
+        limiter.tryAcquire();
+        limiter.release(SLOW, true);
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    void release_ShouldGrowOnlyWhileSaturated() {
+        // Given
+        AimdLimiter limiter = new AimdLimiter("test", 2, 1, 10, 100, 0.5);
+
+        // When: a single request at a time never uses more than half the limit
+        for (int i = 0; i < 20; i++) {
+            limiter.tryAcquire();
+            limiter.release(FAST, true);
+        }
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(2);
+
+        // When: both slots in use on every completion
+        for (int i = 0; i < 20; i++) {
+            limiter.tryAcquire();
+            limiter.tryAcquire();
+            limiter.release(FAST, true);
+            limiter.release(FAST, true);
+        }
+
+        // Then
+        assertThat(limiter.getLimit()).isGreaterThan(2);
+    }
+
+    @Test
+    void constructor_ShouldRejectInconsistentLimits() {
+        assertThatThrownBy(() -> new AimdLimiter("test", 20, 1, 10, 100, 0.5))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
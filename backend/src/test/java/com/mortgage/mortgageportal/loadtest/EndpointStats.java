@@ -0,0 +1,66 @@
+package com.mortgage.mortgageportal.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency and errors for one endpoint (one named request of the collection). Request threads record into an
+ * HDR Recorder; the reporting thread drains it once per interval and keeps the intervals after warmup.
+ * Values are microseconds, so 3 significant digits resolve 1 ms to the microsecond.
+ */
+final class EndpointStats {
+
+    private static final long HIGHEST_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final String name;
+    private final Recorder recorder = new Recorder(HIGHEST_MICROS, 3);
+    private final LongAdder errors = new LongAdder();
+    private final Histogram total = new Histogram(HIGHEST_MICROS, 3);
+    private Histogram interval;
+    private long intervalErrors;
+    private long totalErrors;
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    String name() {
+        return name;
+    }
+
+    void record(long latencyNanos, boolean success) {
+        recorder.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_MICROS));
+        if (!success) {
+            errors.increment();
+        }
+    }
+
+    /**
+     * Drains what was recorded since the last call; counted in the totals only when keep is set.
+     * Called from the reporting thread only.
+     */
+    Histogram drainInterval(boolean keep) {
+        interval = recorder.getIntervalHistogram(interval);
+        intervalErrors = errors.sumThenReset();
+        if (keep) {
+            total.add(interval);
+            totalErrors += intervalErrors;
+        }
+        return interval;
+    }
+
+    long intervalErrors() {
+        return intervalErrors;
+    }
+
+    Histogram total() {
+        return total;
+    }
+
+    long totalErrors() {
+        return totalErrors;
+    }
+}
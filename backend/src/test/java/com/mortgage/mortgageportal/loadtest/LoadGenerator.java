@@ -0,0 +1,290 @@
+package com.mortgage.mortgageportal.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator for the portal. Scenarios (see {@link Scenario#defaults()}) start at Poisson
+ * arrivals whose rate is the target request rate divided by the mean number of requests per scenario, whether
+ * or not earlier ones have finished, so a slow server builds a queue instead of slowing the generator down.
+ * The first request of a scenario is timed from its scheduled start, which keeps coordinated omission out of
+ * the numbers; later requests depend on earlier responses and are timed from when they are sent.
+ * Every request is recorded in the HDR histogram of its Postman request name; any non-2xx status or I/O
+ * failure is an error and ends the scenario.
+ * <p>
+ * Tokens are minted locally with the secret JwtAuthFilter verifies, one per simulated applicant plus one
+ * officer, so the app provisions the users on first sight.
+ * <p>
+ * Run against a running app (for a fully local one, see {@link LoadTestServer}):
+ * mvn -Ploadtest test-compile exec:exec -Dloadtest.args="--rate 200 --duration PT2M"
+ * <p>
+ * Options: --base-url (http://localhost:8080), --collection (postman/Mortgage-Portal-API.postman_collection.json),
+ * --rate requests/s (100), --duration (PT60S), --warmup (PT10S), --applicants (1000), --timeout (PT30S),
+ * --report-interval (PT5S), --report-dir (target/loadtest). The report directory receives summary.csv and one
+ * .hgrm percentile distribution per endpoint, in milliseconds.
+ */
+public final class LoadGenerator {
+
+    // Same secret as JwtAuthFilter
+    private static final String SECRET = "my-very-secret-key-for-jwt-signing-1234567890";
+
+    private final Options options;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final PostmanCollection collection;
+    private final List<Scenario> scenarios;
+    private final int totalWeight;
+    private final Map<String, EndpointStats> stats = new LinkedHashMap<>();
+    private final String[] applicantTokens;
+    private final String officerToken;
+    private final ExecutorService users = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpClient client;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private LoadGenerator(Options options, List<Scenario> scenarios) throws IOException {
+        this.options = options;
+        this.collection = PostmanCollection.load(options.collection(), objectMapper);
+        this.scenarios = scenarios;
+        this.totalWeight = scenarios.stream().mapToInt(Scenario::weight).sum();
+        for (Scenario scenario : scenarios) {
+            for (Scenario.Step step : scenario.steps()) {
+                collection.request(step.request());
+                stats.computeIfAbsent(step.request(), EndpointStats::new);
+            }
+        }
+        Date expiry = new Date(System.currentTimeMillis()
+                + options.warmup().plus(options.duration()).plus(Duration.ofHours(1)).toMillis());
+        this.applicantTokens = new String[options.applicants()];
+        for (int i = 0; i < applicantTokens.length; i++) {
+            applicantTokens[i] = mintToken("loadtest-applicant-" + i + "@example.com", "APPLICANT", expiry);
+        }
+        this.officerToken = mintToken("loadtest-officer@example.com", "OFFICER", expiry);
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(options.timeout())
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        new LoadGenerator(options, Scenario.defaults()).run();
+    }
+
+    private void run() throws Exception {
+        double stepsPerScenario = scenarios.stream().mapToDouble(s -> s.weight() * s.steps().size()).sum() / totalWeight;
+        double meanGapNanos = TimeUnit.SECONDS.toNanos(1) * stepsPerScenario / options.rate();
+        System.out.printf(Locale.ROOT, "Target %.1f req/s (%.1f scenarios/s) against %s for %s after %s warmup%n",
+                options.rate(), options.rate() / stepsPerScenario, options.baseUrl(), options.duration(), options.warmup());
+
+        long start = System.nanoTime();
+        long measureFrom = start + options.warmup().toNanos();
+        long end = measureFrom + options.duration().toNanos();
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor();
+        long intervalNanos = options.reportInterval().toNanos();
+        reporter.scheduleAtFixedRate(() -> report(start, System.nanoTime() > measureFrom),
+                intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long intended = start;
+        while (true) {
+            // Exponential gaps give Poisson arrivals at the target rate
+            intended += (long) (-Math.log(1.0 - random.nextDouble()) * meanGapNanos);
+            if (intended >= end) {
+                break;
+            }
+            long wait;
+            while ((wait = intended - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Scenario scenario = pick(random);
+            long scheduledAt = intended;
+            inFlight.incrementAndGet();
+            users.execute(() -> {
+                try {
+                    runScenario(scenario, scheduledAt);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            });
+        }
+
+        users.shutdown();
+        if (!users.awaitTermination(options.timeout().toNanos(), TimeUnit.NANOSECONDS)) {
+            System.out.printf("%d scenarios still running after %s, not waiting for them%n", inFlight.get(), options.timeout());
+        }
+        reporter.shutdown();
+        reporter.awaitTermination(1, TimeUnit.MINUTES);
+        // Whatever finished after the last interval report still belongs to the measurement
+        report(start, true);
+        long measuredNanos = Math.max(System.nanoTime() - measureFrom, 1);
+        writeResults(measuredNanos);
+        users.shutdownNow();
+    }
+
+    private Scenario pick(ThreadLocalRandom random) {
+        int ticket = random.nextInt(totalWeight);
+        for (Scenario scenario : scenarios) {
+            ticket -= scenario.weight();
+            if (ticket < 0) {
+                return scenario;
+            }
+        }
+        throw new IllegalStateException("Scenario weights changed");
+    }
+
+    private void runScenario(Scenario scenario, long scheduledAt) {
+        Map<String, String> variables = new HashMap<>();
+        variables.put("base_url", options.baseUrl());
+        variables.put("applicant_jwt", applicantTokens[ThreadLocalRandom.current().nextInt(applicantTokens.length)]);
+        variables.put("officer_jwt", officerToken);
+        long sentAt = scheduledAt;
+        for (Scenario.Step step : scenario.steps()) {
+            EndpointStats endpoint = stats.get(step.request());
+            HttpRequest request = collection.request(step.request()).render(variables, options.timeout());
+            HttpResponse<String> response;
+            try {
+                response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            } catch (IOException e) {
+                endpoint.record(System.nanoTime() - sentAt, false);
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            boolean success = response.statusCode() / 100 == 2;
+            endpoint.record(System.nanoTime() - sentAt, success);
+            if (!success) {
+                return;
+            }
+            if (step.captureAs() != null) {
+                String id = capturedId(response.body());
+                if (id == null) {
+                    return;
+                }
+                variables.put(step.captureAs(), id);
+            }
+            sentAt = System.nanoTime();
+        }
+    }
+
+    private String capturedId(String body) {
+        try {
+            String id = objectMapper.readTree(body).path("id").asText(null);
+            return id == null || id.isEmpty() ? null : id;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * One line per interval: overall throughput, errors and latency, and scenarios still in flight.
+     * Only runs on the reporter thread, or on the main thread once the reporter has stopped.
+     */
+    private void report(long start, boolean keep) {
+        Histogram combined = new Histogram(3);
+        long errors = 0;
+        for (EndpointStats endpoint : stats.values()) {
+            combined.add(endpoint.drainInterval(keep));
+            errors += endpoint.intervalErrors();
+        }
+        double seconds = options.reportInterval().toNanos() / 1e9;
+        System.out.printf(Locale.ROOT, "[%5ds]%s %8.1f req/s  errors %-6d p50 %8.2f ms  p99 %8.2f ms  in flight %d%n",
+                TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start), keep ? "" : " warmup",
+                combined.getTotalCount() / seconds, errors,
+                combined.getValueAtPercentile(50) / 1000.0, combined.getValueAtPercentile(99) / 1000.0, inFlight.get());
+    }
+
+    private void writeResults(long measuredNanos) throws IOException {
+        Path dir = options.reportDir();
+        Files.createDirectories(dir);
+        double seconds = measuredNanos / 1e9;
+        List<String> csv = new ArrayList<>();
+        csv.add("endpoint,count,errors,throughput_rps,p50_ms,p99_ms,p999_ms,max_ms");
+        System.out.printf("%n%-30s %9s %7s %10s %10s %10s %10s %10s%n",
+                "endpoint", "count", "errors", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (EndpointStats endpoint : stats.values()) {
+            Histogram total = endpoint.total();
+            double rps = total.getTotalCount() / seconds;
+            double p50 = total.getValueAtPercentile(50) / 1000.0;
+            double p99 = total.getValueAtPercentile(99) / 1000.0;
+            double p999 = total.getValueAtPercentile(99.9) / 1000.0;
+            double max = total.getMaxValue() / 1000.0;
+            System.out.printf(Locale.ROOT, "%-30s %9d %7d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+                    endpoint.name(), total.getTotalCount(), endpoint.totalErrors(), rps, p50, p99, p999, max);
+            csv.add(String.format(Locale.ROOT, "\"%s\",%d,%d,%.2f,%.3f,%.3f,%.3f,%.3f",
+                    endpoint.name(), total.getTotalCount(), endpoint.totalErrors(), rps, p50, p99, p999, max));
+            try (PrintStream out = new PrintStream(Files.newOutputStream(dir.resolve(slug(endpoint.name()) + ".hgrm")),
+                    false, StandardCharsets.UTF_8)) {
+                total.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+        Files.write(dir.resolve("summary.csv"), csv, StandardCharsets.UTF_8);
+        System.out.printf("%nResults written to %s%n", dir.toAbsolutePath());
+    }
+
+    private static String slug(String name) {
+        return name.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-").replaceAll("(^-|-$)", "");
+    }
+
+    static String mintToken(String subject, String role, Date expiry) {
+        return Jwts.builder()
+                .subject(subject)
+                .claim("roles", List.of(role))
+                .expiration(expiry)
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+
+    private record Options(String baseUrl, Path collection, double rate, Duration duration, Duration warmup,
+                           int applicants, Duration timeout, Duration reportInterval, Path reportDir) {
+
+        static Options parse(String[] args) {
+            Map<String, String> values = new HashMap<>();
+            for (int i = 0; i < args.length; i++) {
+                if (!args[i].startsWith("--") || i + 1 == args.length) {
+                    throw new IllegalArgumentException("Expected --option value pairs, got: " + String.join(" ", args));
+                }
+                values.put(args[i].substring(2), args[++i]);
+            }
+            Options options = new Options(
+                    values.getOrDefault("base-url", "http://localhost:8080"),
+                    Path.of(values.getOrDefault("collection", "postman/Mortgage-Portal-API.postman_collection.json")),
+                    Double.parseDouble(values.getOrDefault("rate", "100")),
+                    Duration.parse(values.getOrDefault("duration", "PT60S")),
+                    Duration.parse(values.getOrDefault("warmup", "PT10S")),
+                    Integer.parseInt(values.getOrDefault("applicants", "1000")),
+                    Duration.parse(values.getOrDefault("timeout", "PT30S")),
+                    Duration.parse(values.getOrDefault("report-interval", "PT5S")),
+                    Path.of(values.getOrDefault("report-dir", "target/loadtest")));
+            if (options.rate() <= 0 || options.applicants() <= 0) {
+                throw new IllegalArgumentException("--rate and --applicants must be positive");
+            }
+            return options;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.mortgage.mortgageportal.loadtest;
+
+import com.mortgage.mortgageportal.MortgageportalApplication;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+/**
+ * Runs the portal with nothing installed but Docker: an embedded Kafka broker, the embedded ActiveMQ broker
+ * the dev profile already uses, and a throwaway PostgreSQL through the Testcontainers JDBC URL, migrated by
+ * Flyway on startup. SQL logging is turned down so it does not dominate the numbers.
+ * Any Spring property can still be overridden on the command line, e.g. --spring.datasource.url=... to use a
+ * local database instead.
+ * Run with: mvn -Ploadtest test-compile exec:exec -Dloadtest.main=com.mortgage.mortgageportal.loadtest.LoadTestServer
+ * then start {@link LoadGenerator} from a second terminal, so the two do not share a JVM.
+ */
+public final class LoadTestServer {
+
+    private LoadTestServer() {
+    }
+
+    public static void main(String[] args) {
+        EmbeddedKafkaKraftBroker kafka = new EmbeddedKafkaKraftBroker(1, 1, "loan.applications");
+        kafka.afterPropertiesSet();
+        Runtime.getRuntime().addShutdownHook(new Thread(kafka::destroy, "embedded-kafka-shutdown"));
+
+        System.setProperty("spring.kafka.bootstrap-servers", kafka.getBrokersAsString());
+        setIfAbsent("spring.datasource.url", "jdbc:tc:postgresql:16-alpine:///mortgage_db");
+        setIfAbsent("spring.datasource.driver-class-name", "org.testcontainers.jdbc.ContainerDatabaseDriver");
+        setIfAbsent("spring.datasource.username", "test");
+        setIfAbsent("spring.datasource.password", "test");
+        setIfAbsent("spring.jpa.show-sql", "false");
+        setIfAbsent("logging.level.org.hibernate.SQL", "WARN");
+        setIfAbsent("logging.level.org.hibernate.type.descriptor.sql.BasicBinder", "WARN");
+        setIfAbsent("logging.level.com.mortgage", "INFO");
+        MortgageportalApplication.main(args);
+    }
+
+    private static void setIfAbsent(String key, String value) {
+        if (System.getProperty(key) == null) {
+            System.setProperty(key, value);
+        }
+    }
+}
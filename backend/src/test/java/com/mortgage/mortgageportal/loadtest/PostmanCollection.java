@@ -0,0 +1,94 @@
+package com.mortgage.mortgageportal.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The requests of a Postman collection, by name, with their {{variable}} placeholders left in place until a
+ * scenario renders them. Folders are flattened; only method, URL, headers and raw bodies are used, test
+ * scripts are not run.
+ */
+final class PostmanCollection {
+
+    private static final Pattern VARIABLE = Pattern.compile("\\{\\{([^}]+)}}");
+
+    record RequestTemplate(String name, String method, String url, Map<String, String> headers, String body) {
+
+        HttpRequest render(Map<String, String> variables, Duration timeout) {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(substitute(url, variables))).timeout(timeout);
+            headers.forEach((key, value) -> builder.header(key, substitute(value, variables)));
+            HttpRequest.BodyPublisher publisher = body == null
+                    ? HttpRequest.BodyPublishers.noBody()
+                    : HttpRequest.BodyPublishers.ofString(substitute(body, variables));
+            return builder.method(method, publisher).build();
+        }
+    }
+
+    private final Map<String, RequestTemplate> requests;
+
+    private PostmanCollection(Map<String, RequestTemplate> requests) {
+        this.requests = requests;
+    }
+
+    static PostmanCollection load(Path file, ObjectMapper objectMapper) throws IOException {
+        Map<String, RequestTemplate> requests = new LinkedHashMap<>();
+        collect(objectMapper.readTree(file.toFile()).path("item"), requests);
+        return new PostmanCollection(requests);
+    }
+
+    RequestTemplate request(String name) {
+        RequestTemplate request = requests.get(name);
+        if (request == null) {
+            throw new IllegalArgumentException("No request named '" + name + "' in the collection; found " + requests.keySet());
+        }
+        return request;
+    }
+
+    private static void collect(JsonNode items, Map<String, RequestTemplate> requests) {
+        for (JsonNode item : items) {
+            if (item.has("item")) {
+                collect(item.get("item"), requests);
+                continue;
+            }
+            JsonNode request = item.path("request");
+            JsonNode url = request.path("url");
+            Map<String, String> headers = new LinkedHashMap<>();
+            for (JsonNode header : request.path("header")) {
+                if (!header.path("disabled").asBoolean(false)) {
+                    headers.put(header.path("key").asText(), header.path("value").asText());
+                }
+            }
+            JsonNode body = request.path("body");
+            String name = item.path("name").asText();
+            requests.put(name, new RequestTemplate(
+                    name,
+                    request.path("method").asText("GET"),
+                    url.isTextual() ? url.asText() : url.path("raw").asText(),
+                    headers,
+                    "raw".equals(body.path("mode").asText()) ? body.path("raw").asText() : null));
+        }
+    }
+
+    private static String substitute(String template, Map<String, String> variables) {
+        Matcher matcher = VARIABLE.matcher(template);
+        StringBuilder out = new StringBuilder(template.length() + 64);
+        while (matcher.find()) {
+            String value = variables.get(matcher.group(1));
+            if (value == null) {
+                throw new IllegalStateException("Variable {{" + matcher.group(1) + "}} is not set");
+            }
+            matcher.appendReplacement(out, Matcher.quoteReplacement(value));
+        }
+        return matcher.appendTail(out).toString();
+    }
+}
@@ -0,0 +1,43 @@
+package com.mortgage.mortgageportal.loadtest;
+
+import java.util.List;
+
+/**
+ * One user flow: requests from the Postman collection, run in order by one simulated user. A step that
+ * captures a variable stores the "id" of its JSON response under that name for the steps after it, as the
+ * collection's test scripts do with pm.environment.set.
+ */
+record Scenario(String name, int weight, List<Step> steps) {
+
+    record Step(String request, String captureAs) {
+    }
+
+    static Step step(String request) {
+        return new Step(request, null);
+    }
+
+    static Step step(String request, String captureAs) {
+        return new Step(request, captureAs);
+    }
+
+    /**
+     * The mix the generator runs unless told otherwise: mostly officers working the queue, with applicants
+     * applying, revising and uploading, and officers deciding what was just submitted.
+     */
+    static List<Scenario> defaults() {
+        return List.of(
+                new Scenario("apply-with-document", 25, List.of(
+                        step("Create Application", "application_id"),
+                        step("Create Document", "document_id"),
+                        step("Get Documents by Application"))),
+                new Scenario("revise", 15, List.of(
+                        step("Create Application", "application_id"),
+                        step("Update Application"),
+                        step("Get Application by ID"))),
+                new Scenario("officer-queue", 45, List.of(
+                        step("List Applications (Officer)"))),
+                new Scenario("decide", 15, List.of(
+                        step("Create Application", "application_id"),
+                        step("Approve Application"))));
+    }
+}
@@ -0,0 +1,62 @@
+package com.mortgage.mortgageportal.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitingTurboFilterTest {
+
+    private RateLimitingTurboFilter filter;
+    private Logger logger;
+
+    @BeforeEach
+    void setUp() {
+        LoggerContext context = new LoggerContext();
+        logger = context.getLogger("com.mortgage.test");
+        logger.setLevel(Level.DEBUG);
+
+        filter = new RateLimitingTurboFilter();
+        filter.setMaxEventsPerSecond(2);
+        filter.start();
+    }
+
+    @Test
+    void decide_ShouldDenyInfoEventsOverTheLimit() {
+        // When & Then
+        assertThat(filter.decide(null, logger, Level.INFO, "msg {}", null, null)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(filter.decide(null, logger, Level.INFO, "msg {}", null, null)).isEqualTo(FilterReply.NEUTRAL);
+        long before = LogDropCounters.rateLimitedCount();
+        assertThat(filter.decide(null, logger, Level.INFO, "msg {}", null, null)).isEqualTo(FilterReply.DENY);
+        assertThat(LogDropCounters.rateLimitedCount()).isEqualTo(before + 1);
+    }
+
+    @Test
+    void decide_ShouldAlwaysPassWarnAndError() {
+        // Given
+        filter.decide(null, logger, Level.INFO, "msg", null, null);
+        filter.decide(null, logger, Level.INFO, "msg", null, null);
+
+        // When & Then
+        assertThat(filter.decide(null, logger, Level.WARN, "msg", null, null)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(filter.decide(null, logger, Level.ERROR, "msg", null, null)).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    void decide_ShouldNotConsumeBudgetForDisabledLevelsOrEnabledChecks() {
+        // Given
+        logger.setLevel(Level.INFO);
+
+        // When
+        filter.decide(null, logger, Level.DEBUG, "msg", null, null);
+        filter.decide(null, logger, Level.INFO, null, null, null);
+        filter.decide(null, logger, Level.INFO, null, null, null);
+
+        // Then
+        assertThat(filter.decide(null, logger, Level.INFO, "msg", null, null)).isEqualTo(FilterReply.NEUTRAL);
+    }
+}
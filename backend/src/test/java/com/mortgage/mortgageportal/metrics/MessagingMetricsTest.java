@@ -0,0 +1,35 @@
+package com.mortgage.mortgageportal.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MessagingMetricsTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final MessagingMetrics metrics = new MessagingMetrics(registry);
+
+    @Test
+    void kafkaSendAndFallback_ShouldBeRecordedByOutcomeOnly() {
+        // Given
+        Timer.Sample acked = metrics.startKafkaSend();
+        Timer.Sample failed = metrics.startKafkaSend();
+
+        // When
+        metrics.kafkaSendCompleted(acked, true);
+        metrics.kafkaSendCompleted(failed, false);
+        metrics.fallbackToActiveMq(true);
+        metrics.fallbackToActiveMq(true);
+        metrics.fallbackToActiveMq(false);
+
+        // Then
+        assertThat(registry.get("messaging.kafka.send").tag("outcome", "acked").timer().count()).isEqualTo(1);
+        assertThat(registry.get("messaging.kafka.send").tag("outcome", "failed").timer().count()).isEqualTo(1);
+        assertThat(registry.get("messaging.activemq.fallback").tag("outcome", "delivered").counter().count()).isEqualTo(2);
+        assertThat(registry.get("messaging.activemq.fallback").tag("outcome", "failed").counter().count()).isEqualTo(1);
+        assertThat(registry.getMeters()).hasSize(4);
+    }
+}
@@ -0,0 +1,70 @@
+package com.mortgage.mortgageportal.metrics;
+
+import com.mortgage.mortgageportal.dto.PipelineStatsDTO;
+import com.mortgage.mortgageportal.enums.ApplicationStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PipelineStatsTest {
+
+    private final AtomicLong now = new AtomicLong(1_700_000_000_000L);
+    private PipelineStats stats;
+
+    @BeforeEach
+    void setUp() {
+        stats = new PipelineStats(now::get);
+    }
+
+    @Test
+    void snapshot_ShouldTrackStatusTransitions() {
+        // Given
+        UUID officerId = UUID.randomUUID();
+        stats.applicationCreated();
+        stats.applicationCreated();
+        stats.applicationCreated();
+
+        // When
+        stats.applicationDecided(ApplicationStatus.PENDING, ApplicationStatus.APPROVED, officerId, 1_000);
+        stats.applicationDecided(ApplicationStatus.PENDING, ApplicationStatus.REJECTED, officerId, 3_000);
+        stats.applicationDeleted(ApplicationStatus.REJECTED);
+        PipelineStatsDTO snapshot = stats.snapshot();
+
+        // Then
+        assertThat(snapshot.getApplicationsByStatus())
+                .containsEntry(ApplicationStatus.PENDING, 1L)
+                .containsEntry(ApplicationStatus.APPROVED, 1L)
+                .containsEntry(ApplicationStatus.REJECTED, 0L);
+        assertThat(snapshot.getApplicationsCreated()).isEqualTo(3);
+        assertThat(snapshot.getDecisionsMade()).isEqualTo(2);
+        assertThat(snapshot.getDecisionsByOfficer()).containsEntry(officerId, 2L);
+        assertThat(snapshot.getAverageTurnaroundMillis()).isEqualTo(2_000);
+        assertThat(snapshot.getMaxTurnaroundMillis()).isEqualTo(3_000);
+    }
+
+    @Test
+    void snapshot_ShouldSlideRateWindows() {
+        // Given
+        stats.applicationCreated();
+        now.addAndGet(1_000);
+        stats.applicationCreated();
+        stats.applicationCreated();
+        now.addAndGet(1_000);
+
+        // When
+        PipelineStatsDTO recent = stats.snapshot();
+        now.addAndGet(61_000);
+        PipelineStatsDTO later = stats.snapshot();
+
+        // Then
+        assertThat(recent.getCreatedLastSecond()).isEqualTo(2);
+        assertThat(recent.getCreatedLastMinute()).isEqualTo(3);
+        assertThat(later.getCreatedLastSecond()).isZero();
+        assertThat(later.getCreatedLastMinute()).isZero();
+        assertThat(later.getCreatedLastHour()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,103 @@
+package com.mortgage.mortgageportal.pricing;
+
+import com.mortgage.mortgageportal.entities.Application;
+import com.mortgage.mortgageportal.exception.BadRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AmortizationEngineTest {
+
+    private AmortizationEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new AmortizationEngine("120=5.25,240=5.75,360=6.00", 0.36, 1_000);
+    }
+
+    @Test
+    void quote_ShouldMatchStandardAnnuityPayment() {
+        // When
+        Quote quote = engine.quote(10_000_000, 360, 600);
+
+        // Then
+        assertThat(quote.monthlyPaymentCents()).isEqualTo(59_955);
+        assertThat(quote.totalPaidCents()).isEqualTo(quote.principalCents() + quote.totalInterestCents());
+        assertThat(quote.totalInterestCents())
+                .isEqualTo(359 * quote.monthlyPaymentCents() + quote.finalPaymentCents() - quote.principalCents());
+    }
+
+    @Test
+    void quote_ShouldSplitPrincipalEvenlyAtZeroRate() {
+        // When
+        Quote quote = engine.quote(1_200_000, 12, 0);
+
+        // Then
+        assertThat(quote.monthlyPaymentCents()).isEqualTo(100_000);
+        assertThat(quote.totalInterestCents()).isZero();
+    }
+
+    @Test
+    void schedule_ShouldAmortizeToZeroAndAgreeWithQuote() {
+        // When
+        AmortizationSchedule schedule = engine.schedule(25_000_000, 240, 575);
+
+        // Then
+        long principalPaid = 0;
+        for (int month = 0; month < schedule.months(); month++) {
+            assertThat(schedule.paymentCents(month))
+                    .isEqualTo(schedule.principalCents(month) + schedule.interestCents(month));
+            principalPaid += schedule.principalCents(month);
+        }
+        assertThat(principalPaid).isEqualTo(25_000_000);
+        assertThat(schedule.balanceCents(239)).isZero();
+        assertThat(schedule.quote()).isEqualTo(engine.quote(25_000_000, 240, 575));
+    }
+
+    @Test
+    void maxAffordablePrincipal_ShouldStayWithinBudget() {
+        // Given 36% of 10,000.00 income minus 1,000.00 debts leaves 2,600.00 a month
+        long budget = 260_000;
+
+        // When
+        long principal = engine.maxAffordablePrincipalCents(1_000_000, 100_000, 360, 600);
+
+        // Then
+        assertThat(engine.quote(principal, 360, 600).monthlyPaymentCents()).isLessThanOrEqualTo(budget);
+        assertThat(engine.quote(principal + 100, 360, 600).monthlyPaymentCents()).isGreaterThan(budget);
+    }
+
+    @Test
+    void rateBpsFor_ShouldUseFirstBandCoveringTerm() {
+        assertThat(engine.rateBpsFor(60)).isEqualTo(525);
+        assertThat(engine.rateBpsFor(240)).isEqualTo(575);
+        assertThat(engine.rateBpsFor(300)).isEqualTo(600);
+        assertThat(engine.rateBpsFor(480)).isEqualTo(600);
+    }
+
+    @Test
+    void priceAll_ShouldSkipApplicationsWithoutUsableTerms() {
+        // Given
+        Application valid = Application.builder().id(UUID.randomUUID()).amount(new BigDecimal("100000")).loanTermMonths(360).build();
+        Application noTerm = Application.builder().id(UUID.randomUUID()).amount(new BigDecimal("100000")).build();
+
+        // When
+        List<ApplicationQuote> quotes = engine.priceAll(List.of(valid, noTerm));
+
+        // Then
+        assertThat(quotes).extracting(ApplicationQuote::applicationId).containsExactly(valid.getId());
+        assertThat(quotes.get(0).quote().monthlyPaymentCents()).isEqualTo(59_955);
+    }
+
+    @Test
+    void quote_ShouldRejectOutOfRangeTerm() {
+        assertThatThrownBy(() -> engine.quote(10_000_000, 0, 600)).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> engine.quote(10_000_000, 601, 600)).isInstanceOf(BadRequestException.class);
+    }
+}
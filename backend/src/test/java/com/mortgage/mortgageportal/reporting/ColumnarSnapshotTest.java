@@ -0,0 +1,101 @@
+package com.mortgage.mortgageportal.reporting;
+
+import com.mortgage.mortgageportal.entities.Application;
+import com.mortgage.mortgageportal.entities.User;
+import com.mortgage.mortgageportal.enums.ApplicationStatus;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ColumnarSnapshotTest {
+
+    private final User alice = User.builder().id(UUID.randomUUID()).build();
+    private final User bob = User.builder().id(UUID.randomUUID()).build();
+
+    @Test
+    void exposureByTerm_ShouldSumAmountsPerBucket() {
+        // Given
+        ColumnarSnapshot snapshot = ColumnarSnapshot.build(List.of(
+                app(alice, ApplicationStatus.APPROVED, "100000.50", 120, "2026-01-10T09:00"),
+                app(alice, ApplicationStatus.PENDING, "200000", 240, "2026-01-20T09:00"),
+                app(bob, ApplicationStatus.APPROVED, "300000", 360, "2026-03-01T00:00")), Instant.now());
+
+        // When
+        List<TermExposure> all = snapshot.exposureByTerm(new int[]{120, 240}, null);
+        List<TermExposure> approved = snapshot.exposureByTerm(new int[]{120, 240}, ApplicationStatus.APPROVED);
+
+        // Then
+        assertThat(all).containsExactly(
+                new TermExposure(0, 120, 1, 10_000_050),
+                new TermExposure(121, 240, 1, 20_000_000),
+                new TermExposure(241, Integer.MAX_VALUE, 1, 30_000_000));
+        assertThat(approved.get(1).applications()).isZero();
+        assertThat(snapshot.distinctApplicants(null)).isEqualTo(2);
+        assertThat(snapshot.distinctApplicants(ApplicationStatus.PENDING)).isEqualTo(1);
+    }
+
+    @Test
+    void decisionsByMonth_ShouldCoverEveryMonthBetweenOldestAndNewest() {
+        // Given
+        ColumnarSnapshot snapshot = ColumnarSnapshot.build(List.of(
+                app(alice, ApplicationStatus.APPROVED, "100000", 120, "2026-01-31T23:59"),
+                app(alice, ApplicationStatus.REJECTED, "100000", 120, "2026-01-01T00:00"),
+                app(bob, ApplicationStatus.PENDING, "100000", 120, "2026-03-01T00:00")), Instant.now());
+
+        // When
+        List<MonthlyDecisions> months = snapshot.decisionsByMonth();
+
+        // Then
+        assertThat(months).containsExactly(
+                new MonthlyDecisions(YearMonth.of(2026, 1), 1, 1, 0),
+                new MonthlyDecisions(YearMonth.of(2026, 2), 0, 0, 0),
+                new MonthlyDecisions(YearMonth.of(2026, 3), 0, 0, 1));
+        assertThat(months.get(0).approvalRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    void amountDistribution_ShouldMatchBruteForceAcrossChunks() {
+        // Given more rows than one chunk, so the parallel merge is exercised
+        List<Application> applications = new ArrayList<>();
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < ColumnarSnapshot.CHUNK_ROWS * 2 + 17; i++) {
+            long cents = 5_000_000L + (i * 7919L) % 90_000_000L;
+            applications.add(app(i % 2 == 0 ? alice : bob, ApplicationStatus.PENDING,
+                    BigDecimal.valueOf(cents, 2).toPlainString(), 240, "2026-05-05T12:00"));
+            min = Math.min(min, cents);
+            max = Math.max(max, cents);
+        }
+        ColumnarSnapshot snapshot = ColumnarSnapshot.build(applications, Instant.now());
+
+        // When
+        AmountDistribution distribution = snapshot.amountDistribution(null, 10);
+
+        // Then
+        assertThat(distribution.count()).isEqualTo(applications.size());
+        assertThat(distribution.minCents()).isEqualTo(min);
+        assertThat(distribution.maxCents()).isEqualTo(max);
+        assertThat(Arrays.stream(distribution.bucketCounts()).sum()).isEqualTo(applications.size());
+        assertThat(snapshot.amountDistribution(ApplicationStatus.APPROVED, 10).count()).isZero();
+    }
+
+    private static Application app(User user, ApplicationStatus status, String amount, int term, String createdAt) {
+        return Application.builder()
+                .id(UUID.randomUUID())
+                .user(user)
+                .status(status)
+                .amount(new BigDecimal(amount))
+                .loanTermMonths(term)
+                .createdAt(LocalDateTime.parse(createdAt))
+                .build();
+    }
+}
@@ -0,0 +1,115 @@
+package com.mortgage.mortgageportal.rules;
+
+import com.mortgage.mortgageportal.dto.UnderwritingRulesDTO;
+import com.mortgage.mortgageportal.enums.DecisionStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompiledRulesTest {
+
+    private CompiledRules rules;
+
+    @BeforeEach
+    void setUp() {
+        rules = CompiledRules.compile(UnderwritingRulesDTO.builder()
+                .maxAmountByTerm(Map.of(120, new BigDecimal("300000"), 360, new BigDecimal("1000000")))
+                .maxOpenApplications(1)
+                .maxPriorRejections(2)
+                .minDocuments(2)
+                .approveBelowScore(30)
+                .rejectAtOrAboveScore(70)
+                .build());
+    }
+
+    @Test
+    void evaluate_ShouldSuggestApprovalForCleanApplication() {
+        // When
+        Assessment assessment = rules.evaluate(new ApplicationFacts(20_000_000, 240, true, 0, 0, 3));
+
+        // Then
+        assertThat(assessment.score()).isZero();
+        assertThat(assessment.suggestion()).isEqualTo(DecisionStatus.APPROVED);
+    }
+
+    @Test
+    void evaluate_ShouldKnockOutAmountOverLimitForTerm() {
+        // Given 400,000.00 is within the 360-month band but over the 120-month one
+        long amountCents = 40_000_000;
+
+        // When
+        Assessment shortTerm = rules.evaluate(new ApplicationFacts(amountCents, 120, true, 0, 0, 3));
+        Assessment longTerm = rules.evaluate(new ApplicationFacts(amountCents, 240, true, 0, 0, 3));
+
+        // Then
+        assertThat(shortTerm).isEqualTo(new Assessment(CompiledRules.MAX_SCORE, DecisionStatus.REJECTED));
+        assertThat(longTerm.suggestion()).isEqualTo(DecisionStatus.APPROVED);
+    }
+
+    @Test
+    void evaluate_ShouldKnockOutTermBeyondLastBand() {
+        assertThat(rules.evaluate(new ApplicationFacts(10_000_000, 480, true, 0, 0, 3)).suggestion())
+                .isEqualTo(DecisionStatus.REJECTED);
+    }
+
+    @Test
+    void evaluate_ShouldLeaveMidRangeScoresForManualReview() {
+        // When: unverified identity (30) and missing documents (40)
+        Assessment incomplete = rules.evaluate(new ApplicationFacts(10_000_000, 240, false, 0, 0, 0));
+        // When: one earlier rejection (25) and a second open application (30)
+        Assessment shopping = rules.evaluate(new ApplicationFacts(10_000_000, 240, true, 2, 1, 3));
+
+        // Then
+        assertThat(incomplete).isEqualTo(new Assessment(70, DecisionStatus.REJECTED));
+        assertThat(shopping.score()).isEqualTo(55);
+        assertThat(shopping.suggestion()).isNull();
+    }
+
+    @Test
+    void compile_ShouldRejectInvertedThresholds() {
+        UnderwritingRulesDTO inverted = UnderwritingRulesDTO.builder()
+                .maxAmountByTerm(Map.of(360, new BigDecimal("1000000")))
+                .maxOpenApplications(1)
+                .maxPriorRejections(2)
+                .minDocuments(0)
+                .approveBelowScore(80)
+                .rejectAtOrAboveScore(50)
+                .build();
+
+        assertThatThrownBy(() -> CompiledRules.compile(inverted)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void compile_ShouldRejectInvalidTermBands() {
+        Map<Integer, BigDecimal> nullAmount = new HashMap<>();
+        nullAmount.put(360, null);
+
+        assertThatThrownBy(() -> CompiledRules.compile(withBands(Map.of(0, new BigDecimal("1000000")))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CompiledRules.compile(withBands(Map.of(-12, new BigDecimal("1000000")))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CompiledRules.compile(withBands(Map.of(360, BigDecimal.ZERO))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CompiledRules.compile(withBands(nullAmount)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CompiledRules.compile(withBands(Map.of())))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static UnderwritingRulesDTO withBands(Map<Integer, BigDecimal> maxAmountByTerm) {
+        return UnderwritingRulesDTO.builder()
+                .maxAmountByTerm(maxAmountByTerm)
+                .maxOpenApplications(1)
+                .maxPriorRejections(2)
+                .minDocuments(0)
+                .approveBelowScore(30)
+                .rejectAtOrAboveScore(70)
+                .build();
+    }
+}
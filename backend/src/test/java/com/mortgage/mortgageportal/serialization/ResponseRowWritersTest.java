@@ -0,0 +1,153 @@
+package com.mortgage.mortgageportal.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mortgage.mortgageportal.config.KafkaConfig;
+import com.mortgage.mortgageportal.dto.PagedResponseDTO;
+import com.mortgage.mortgageportal.entities.Application;
+import com.mortgage.mortgageportal.entities.Document;
+import com.mortgage.mortgageportal.entities.User;
+import com.mortgage.mortgageportal.enums.ApplicationStatus;
+import com.mortgage.mortgageportal.enums.UserRole;
+import com.mortgage.mortgageportal.exception.BadRequestException;
+import com.mortgage.mortgageportal.mapper.ApplicationMapper;
+import com.mortgage.mortgageportal.mapper.DocumentMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResponseRowWritersTest {
+
+    private ObjectMapper objectMapper;
+    private Application testApplication;
+    private Document testDocument;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new KafkaConfig().objectMapper();
+
+        User testUser = User.builder()
+                .id(UUID.randomUUID())
+                .fullName("John Doe")
+                .email("john@example.com")
+                .nationalId("123456789")
+                .role(UserRole.APPLICANT)
+                .build();
+
+        testApplication = Application.builder()
+                .id(UUID.randomUUID())
+                .user(testUser)
+                .amount(new BigDecimal("100000.50"))
+                .loanTermMonths(240)
+                .status(ApplicationStatus.APPROVED)
+                .createdAt(LocalDateTime.of(2024, 3, 1, 10, 15, 30, 123456789))
+                .updatedAt(LocalDateTime.of(2024, 3, 2, 8, 0))
+                .build();
+
+        testDocument = Document.builder()
+                .id(UUID.randomUUID())
+                .application(testApplication)
+                .fileName("bank_statement.pdf")
+                .fileType("pdf")
+                .fileSize(2048576L)
+                .presignedUrl("https://s3.amazonaws.com/bucket/bank_statement.pdf?signature=abc123")
+                .uploadedAt(LocalDateTime.of(2024, 3, 1, 11, 0, 5, 999))
+                .build();
+    }
+
+    @Test
+    void applications_ShouldMatchBeanSerializedResponse() throws Exception {
+        // Given
+        Application sparse = Application.builder().id(UUID.randomUUID()).build();
+        String expected = objectMapper.writeValueAsString(List.of(
+                ApplicationMapper.toResponseDTO(testApplication), ApplicationMapper.toResponseDTO(sparse)));
+
+        // When
+        String actual = write(ResponseRowWriters.applications(List.of(testApplication, sparse)));
+
+        // Then
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void documents_ShouldMatchBeanSerializedResponse() throws Exception {
+        // Given
+        Document sparse = Document.builder().id(UUID.randomUUID()).build();
+        String expected = objectMapper.writeValueAsString(List.of(
+                DocumentMapper.toResponseDTO(testDocument), DocumentMapper.toResponseDTO(sparse)));
+
+        // When
+        String actual = write(ResponseRowWriters.documents(List.of(testDocument, sparse)));
+
+        // Then
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void applications_ShouldWriteEmptyArray() throws Exception {
+        assertThat(write(ResponseRowWriters.applications(List.of()))).isEqualTo("[]");
+    }
+
+    @Test
+    void applications_ShouldWriteOnlySelectedFields() throws Exception {
+        // Given
+        long fields = FieldMask.APPLICATION.parse("id, status");
+
+        // When
+        String actual = write(ResponseRowWriters.applications(List.of(testApplication), fields));
+
+        // Then
+        assertThat(actual).isEqualTo("[{\"id\":\"" + testApplication.getId() + "\",\"status\":\"APPROVED\"}]");
+    }
+
+    @Test
+    void applicationPage_ShouldMatchPagedResponse() throws Exception {
+        // Given
+        Page<Application> page = new PageImpl<>(List.of(testApplication), PageRequest.of(0, 1), 3);
+        String expected = objectMapper.writeValueAsString(PagedResponseDTO.of(page.map(ApplicationMapper::toResponseDTO)));
+
+        // When
+        String actual = write(ResponseRowWriters.applicationPage(page, FieldMask.APPLICATION.all()));
+
+        // Then
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void document_ShouldWriteSingleObjectWithSelectedFields() throws Exception {
+        // Given
+        long fields = FieldMask.DOCUMENT.parse("fileName,fileSize");
+
+        // When
+        String actual = write(ResponseRowWriters.document(testDocument, fields));
+
+        // Then
+        assertThat(actual).isEqualTo("{\"fileName\":\"bank_statement.pdf\",\"fileSize\":2048576}");
+    }
+
+    @Test
+    void parse_ShouldRejectUnknownField() {
+        assertThatThrownBy(() -> FieldMask.APPLICATION.parse("id,nationalId"))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("nationalId");
+    }
+
+    private String write(JsonStreamBody stream) throws Exception {
+        StringWriter out = new StringWriter();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            stream.writeTo(generator, objectMapper.getSerializerProviderInstance());
+        }
+        return out.toString();
+    }
+}
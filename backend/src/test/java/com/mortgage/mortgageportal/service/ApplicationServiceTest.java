@@ -5,16 +5,23 @@ import com.mortgage.mortgageportal.entities.Application;
 import com.mortgage.mortgageportal.entities.User;
 import com.mortgage.mortgageportal.enums.ApplicationStatus;
 import com.mortgage.mortgageportal.enums.UserRole;
+import com.mortgage.mortgageportal.exception.AccessForbiddenException;
+import com.mortgage.mortgageportal.exception.ResourceNotFoundException;
+import com.mortgage.mortgageportal.journal.StateJournal;
+import com.mortgage.mortgageportal.metrics.PipelineStats;
 import com.mortgage.mortgageportal.service.impl.ApplicationServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -35,7 +42,7 @@ class ApplicationServiceTest {
 
     @BeforeEach
     void setUp() {
-        applicationService = new ApplicationServiceImpl(eventPublisherService);
+        applicationService = new ApplicationServiceImpl(eventPublisherService, new PipelineStats(), StateJournal.NOOP);
         
         testUser = User.builder()
                 .id(UUID.randomUUID())
@@ -92,7 +99,7 @@ class ApplicationServiceTest {
 
         // When & Then
         assertThatThrownBy(() -> applicationService.getApplicationById(nonExistentId, testUser))
-                .isInstanceOf(RuntimeException.class)
+                .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessage("Application not found");
     }
 
@@ -111,7 +118,7 @@ class ApplicationServiceTest {
 
         // When & Then
         assertThatThrownBy(() -> applicationService.getApplicationById(createdApp.getId(), otherUser))
-                .isInstanceOf(RuntimeException.class)
+                .isInstanceOf(AccessForbiddenException.class)
                 .hasMessage("Access denied: You can only view your own applications");
     }
 
@@ -199,6 +206,168 @@ class ApplicationServiceTest {
         assertThat(results.get(0).getUser().getNationalId()).isEqualTo(testUser.getNationalId());
     }
 
+    @Test
+    void listApplications_ShouldFilterByAmountAndTermRange() {
+        // Given
+        applicationService.createApplication(testRequest, testUser);
+        Application large = applicationService.createApplication(ApplicationRequestDTO.builder()
+                .amount(new BigDecimal("250000.50"))
+                .loanTermMonths(360)
+                .build(), testUser);
+
+        // When
+        List<Application> byAmount = applicationService.listApplications(null, null, null, null,
+                new BigDecimal("250000.50"), null, null, null);
+        List<Application> byTerm = applicationService.listApplications(null, null, null, null,
+                null, null, 300, 360);
+        List<Application> none = applicationService.listApplications(null, null, null, null,
+                new BigDecimal("250000.51"), null, 300, null);
+
+        // Then
+        assertThat(byAmount).containsExactly(large);
+        assertThat(byTerm).containsExactly(large);
+        assertThat(none).isEmpty();
+    }
+
+    @Test
+    void updateApplication_ShouldReindexAmountRange() {
+        // Given
+        Application app = applicationService.createApplication(testRequest, testUser);
+        ApplicationRequestDTO raised = ApplicationRequestDTO.builder()
+                .amount(new BigDecimal("500000"))
+                .loanTermMonths(240)
+                .build();
+
+        // When
+        applicationService.updateApplication(app.getId(), raised, testUser);
+
+        // Then
+        assertThat(applicationService.listApplications(null, null, null, null, null, new BigDecimal("100000"), null, null)).isEmpty();
+        assertThat(applicationService.listApplications(null, null, null, null, new BigDecimal("400000"), null, null, null))
+                .containsExactly(app);
+    }
+
+    @Test
+    void listApplicationsByUser_ShouldReturnOnlyOwnApplicationsNewestFirst() {
+        // Given
+        User otherUser = User.builder()
+                .id(UUID.randomUUID())
+                .fullName("Jane Doe")
+                .email("jane@example.com")
+                .nationalId("987654321")
+                .role(UserRole.APPLICANT)
+                .build();
+        Application first = applicationService.createApplication(testRequest, testUser);
+        applicationService.createApplication(testRequest, otherUser);
+        Application second = applicationService.createApplication(testRequest, testUser);
+
+        // When
+        Page<Application> page = applicationService.listApplicationsByUser(testUser.getId(), null, PageRequest.of(0, 10));
+
+        // Then
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent()).containsExactly(second, first);
+    }
+
+    @Test
+    void listApplicationsByUser_ShouldPaginateAndFilterByStatus() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            applicationService.createApplication(testRequest, testUser);
+        }
+
+        // When
+        Page<Application> page = applicationService.listApplicationsByUser(
+                testUser.getId(), ApplicationStatus.PENDING, PageRequest.of(1, 2));
+        Page<Application> approved = applicationService.listApplicationsByUser(
+                testUser.getId(), ApplicationStatus.APPROVED, PageRequest.of(0, 2));
+
+        // Then
+        assertThat(page.getContent()).hasSize(2);
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        assertThat(page.getTotalPages()).isEqualTo(3);
+        assertThat(approved.getTotalElements()).isZero();
+    }
+
+    @Test
+    void getApplicationsByIds_ShouldReturnOnlyExistingAndAccessibleApplications() {
+        // Given
+        User otherUser = User.builder()
+                .id(UUID.randomUUID())
+                .fullName("Jane Doe")
+                .email("jane@example.com")
+                .nationalId("987654321")
+                .role(UserRole.APPLICANT)
+                .build();
+        Application own = applicationService.createApplication(testRequest, testUser);
+        Application others = applicationService.createApplication(testRequest, otherUser);
+        UUID unknown = UUID.randomUUID();
+
+        // When
+        Map<UUID, Application> result = applicationService.getApplicationsByIds(
+                List.of(own.getId(), others.getId(), unknown), testUser);
+
+        // Then
+        assertThat(result).containsOnlyKeys(own.getId());
+    }
+
+    @Test
+    void getApplicationsByIds_ShouldReturnAnyApplicationToOfficer() {
+        // Given
+        User officer = User.builder()
+                .id(UUID.randomUUID())
+                .fullName("Officer Smith")
+                .email("officer@example.com")
+                .nationalId("111222333")
+                .role(UserRole.OFFICER)
+                .build();
+        Application app1 = applicationService.createApplication(testRequest, testUser);
+        Application app2 = applicationService.createApplication(testRequest, testUser);
+
+        // When
+        Map<UUID, Application> result = applicationService.getApplicationsByIds(List.of(app2.getId(), app1.getId()), officer);
+
+        // Then
+        assertThat(result).containsOnlyKeys(app1.getId(), app2.getId());
+    }
+
+    @Test
+    void searchApplications_ShouldMatchNationalIdAndEmailPrefixes() {
+        // Given
+        User otherUser = User.builder()
+                .id(UUID.randomUUID())
+                .fullName("Jane Doe")
+                .email("jane@example.com")
+                .nationalId("987654321")
+                .role(UserRole.APPLICANT)
+                .build();
+        Application older = applicationService.createApplication(testRequest, testUser);
+        Application newer = applicationService.createApplication(testRequest, testUser);
+        Application others = applicationService.createApplication(testRequest, otherUser);
+
+        // When
+        List<Application> byNationalId = applicationService.searchApplications("1234", 10);
+        List<Application> byEmail = applicationService.searchApplications("JANE@", 10);
+        List<Application> limited = applicationService.searchApplications("123", 1);
+
+        // Then
+        assertThat(byNationalId).containsExactly(newer, older);
+        assertThat(byEmail).containsExactly(others);
+        assertThat(limited).containsExactly(newer);
+    }
+
+    @Test
+    void searchApplications_ShouldDropApplicantWithoutApplications() {
+        // Given
+        Application app = applicationService.createApplication(testRequest, testUser);
+
+        // When
+        applicationService.deleteApplication(app.getId(), testUser);
+
+        // Then
+        assertThat(applicationService.searchApplications("john", 10)).isEmpty();
+    }
+
     @Test
     void updateApplication_ShouldUpdateApplicationSuccessfully() {
         // Given
@@ -224,6 +393,28 @@ class ApplicationServiceTest {
         );
     }
 
+    @Test
+    void updateApplication_ShouldRefileApplicationsUnderChangedNationalId() {
+        // Given applications submitted before KYC, under the placeholder national ID
+        User unverified = withNationalId(User.UNVERIFIED_NATIONAL_ID);
+        Application first = applicationService.createApplication(testRequest, unverified);
+        Application second = applicationService.createApplication(testRequest, unverified);
+        User verified = withNationalId("123456789");
+        User corrected = withNationalId("123456780");
+
+        // When the owner's profile gains a national ID, and later has it corrected
+        applicationService.updateApplication(first.getId(), testRequest, verified);
+        List<Application> afterVerification = applicationService.listApplicationsByNationalId("123456789");
+        applicationService.updateApplication(second.getId(), testRequest, corrected);
+        applicationService.deleteApplication(first.getId(), corrected);
+
+        // Then
+        assertThat(afterVerification).containsExactly(first, second);
+        assertThat(applicationService.listApplicationsByNationalId(User.UNVERIFIED_NATIONAL_ID)).isEmpty();
+        assertThat(applicationService.listApplicationsByNationalId("123456789")).isEmpty();
+        assertThat(applicationService.listApplicationsByNationalId("123456780")).containsExactly(second);
+    }
+
     @Test
     void deleteApplication_ShouldDeleteApplicationSuccessfully() {
         // Given
@@ -243,4 +434,15 @@ class ApplicationServiceTest {
                 any()
         );
     }
+
+    // The same account as testUser, as the user service would return it after a profile change
+    private User withNationalId(String nationalId) {
+        return User.builder()
+                .id(testUser.getId())
+                .fullName(testUser.getFullName())
+                .email(testUser.getEmail())
+                .nationalId(nationalId)
+                .role(testUser.getRole())
+                .build();
+    }
 }
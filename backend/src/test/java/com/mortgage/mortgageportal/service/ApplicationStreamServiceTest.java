@@ -0,0 +1,138 @@
+package com.mortgage.mortgageportal.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mortgage.mortgageportal.config.StoreMetricsConfig;
+import com.mortgage.mortgageportal.dto.ApplicationResponseDTO;
+import com.mortgage.mortgageportal.enums.ApplicationStatus;
+import com.mortgage.mortgageportal.event.ApplicationEventPayload;
+import com.mortgage.mortgageportal.event.EventMetadata;
+import com.mortgage.mortgageportal.service.impl.ApplicationStreamServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.web.servlet.mvc.method.annotation.RecordingEmitterHandler;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class ApplicationStreamServiceTest {
+
+    private static final int BUFFER_CAPACITY = 2;
+
+    private ApplicationStreamServiceImpl streamService;
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        streamService = new ApplicationStreamServiceImpl(new ObjectMapper().findAndRegisterModules(), 60_000, BUFFER_CAPACITY);
+        registry = new SimpleMeterRegistry();
+        new StoreMetricsConfig().streamSubscriberMetrics(streamService).bindTo(registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        streamService.shutdown();
+    }
+
+    @Test
+    void onApplicationEvent_ShouldFanOutToEveryMatchingSubscriber() throws IOException {
+        // Given
+        UUID applicationId = UUID.randomUUID();
+        RecordingEmitterHandler first = subscribe(applicationId);
+        RecordingEmitterHandler second = subscribe(applicationId);
+        RecordingEmitterHandler pending = RecordingEmitterHandler.attach(streamService.subscribeToStatus(ApplicationStatus.PENDING));
+        RecordingEmitterHandler approved = RecordingEmitterHandler.attach(streamService.subscribeToStatus(ApplicationStatus.APPROVED));
+        RecordingEmitterHandler otherApplication = subscribe(UUID.randomUUID());
+
+        // When
+        streamService.onApplicationEvent(event(applicationId, ApplicationStatus.PENDING, "CREATE"));
+
+        // Then
+        for (RecordingEmitterHandler subscriber : List.of(first, second, pending)) {
+            await().atMost(Duration.ofSeconds(5)).until(() -> containsEvent(subscriber, applicationId));
+        }
+        assertThat(containsEvent(approved, applicationId)).isFalse();
+        assertThat(containsEvent(otherApplication, applicationId)).isFalse();
+        assertThat(subscriberGauge()).isEqualTo(5);
+    }
+
+    @Test
+    @Timeout(value = 10, threadMode = Timeout.ThreadMode.SEPARATE_THREAD)
+    void onApplicationEvent_ShouldDisconnectSubscriberWhoseBufferOverflows() throws IOException {
+        // Given a subscriber stuck writing one event
+        UUID applicationId = UUID.randomUUID();
+        RecordingEmitterHandler slow = subscribe(applicationId);
+        await().atMost(Duration.ofSeconds(5)).until(() -> !slow.written().isEmpty());
+        slow.holdWrites();
+        streamService.onApplicationEvent(event(applicationId, ApplicationStatus.PENDING, "CREATE"));
+        await().atMost(Duration.ofSeconds(5)).until(() -> slow.heldWrites() == 1);
+
+        // When: its buffer fills up and one more event arrives; the publishing thread must not wait on the stuck write
+        for (int i = 0; i <= BUFFER_CAPACITY; i++) {
+            streamService.onApplicationEvent(event(applicationId, ApplicationStatus.PENDING, "UPDATE"));
+        }
+
+        // Then
+        assertThat(subscriberGauge()).isZero();
+        slow.releaseWrites();
+        await().atMost(Duration.ofSeconds(5)).until(slow::isCompleted);
+        assertThat(updates(slow)).isZero();
+    }
+
+    @Test
+    void subscribers_ShouldBeRemovedOnCompletionOrError() throws IOException {
+        // Given
+        UUID applicationId = UUID.randomUUID();
+        RecordingEmitterHandler completed = subscribe(applicationId);
+        RecordingEmitterHandler failed = subscribe(applicationId);
+        RecordingEmitterHandler status = RecordingEmitterHandler.attach(streamService.subscribeToStatus(null));
+        assertThat(subscriberGauge()).isEqualTo(3);
+
+        // When
+        completed.fireCompletion();
+        failed.fireError(new IOException("Broken pipe"));
+        status.fireCompletion();
+
+        // Then
+        assertThat(subscriberGauge()).isZero();
+        assertThat(streamService.getSubscriberCount()).isZero();
+        streamService.onApplicationEvent(event(applicationId, ApplicationStatus.PENDING, "UPDATE"));
+        streamService.sendHeartbeats();
+        assertThat(updates(completed)).isZero();
+        assertThat(updates(failed)).isZero();
+    }
+
+    private RecordingEmitterHandler subscribe(UUID applicationId) throws IOException {
+        return RecordingEmitterHandler.attach(streamService.subscribeToApplication(applicationId));
+    }
+
+    private double subscriberGauge() {
+        return registry.get("sse.subscribers").gauge().value();
+    }
+
+    private static long updates(RecordingEmitterHandler subscriber) {
+        return subscriber.written().stream().filter(frame -> frame.contains("UPDATE")).count();
+    }
+
+    private static boolean containsEvent(RecordingEmitterHandler subscriber, UUID applicationId) {
+        return subscriber.written().stream().anyMatch(frame -> frame.contains(applicationId.toString()));
+    }
+
+    private static ApplicationEventPayload event(UUID applicationId, ApplicationStatus status, String operation) {
+        ApplicationResponseDTO application = new ApplicationResponseDTO();
+        application.setId(applicationId);
+        application.setStatus(status);
+        return ApplicationEventPayload.builder()
+                .application(application)
+                .metadata(EventMetadata.builder().eventType("APPLICATION_" + operation).build())
+                .operation(operation)
+                .build();
+    }
+}
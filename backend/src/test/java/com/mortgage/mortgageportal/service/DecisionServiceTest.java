@@ -0,0 +1,130 @@
+package com.mortgage.mortgageportal.service;
+
+import com.mortgage.mortgageportal.dto.DecisionRequestDTO;
+import com.mortgage.mortgageportal.entities.Application;
+import com.mortgage.mortgageportal.entities.Decision;
+import com.mortgage.mortgageportal.entities.User;
+import com.mortgage.mortgageportal.enums.ApplicationStatus;
+import com.mortgage.mortgageportal.enums.DecisionStatus;
+import com.mortgage.mortgageportal.enums.UserRole;
+import com.mortgage.mortgageportal.exception.ConflictException;
+import com.mortgage.mortgageportal.journal.StateJournal;
+import com.mortgage.mortgageportal.metrics.PipelineStats;
+import com.mortgage.mortgageportal.service.impl.DecisionServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DecisionServiceTest {
+
+    @Mock
+    private ApplicationService applicationService;
+
+    @Mock
+    private EventPublisherService eventPublisherService;
+
+    private PipelineStats pipelineStats;
+    private DecisionServiceImpl decisionService;
+    private User officer;
+    private Application application;
+
+    @BeforeEach
+    void setUp() {
+        pipelineStats = new PipelineStats();
+        decisionService = new DecisionServiceImpl(applicationService, eventPublisherService, pipelineStats, StateJournal.NOOP);
+        officer = User.builder().id(UUID.randomUUID()).email("officer@example.com").role(UserRole.OFFICER).build();
+        application = Application.builder()
+                .id(UUID.randomUUID())
+                .user(User.builder().id(UUID.randomUUID()).email("john@example.com").role(UserRole.APPLICANT).build())
+                .status(ApplicationStatus.PENDING)
+                .amount(new BigDecimal("100000"))
+                .loanTermMonths(240)
+                .createdAt(LocalDateTime.now().minusDays(1))
+                .build();
+        pipelineStats.applicationCreated();
+    }
+
+    @Test
+    void decideApplication_ShouldRejectSecondDecision() {
+        // Given
+        when(applicationService.getApplicationById(application.getId(), officer)).thenReturn(application);
+        decisionService.decideApplication(application.getId(), request(DecisionStatus.APPROVED), officer);
+
+        // When / Then
+        assertThatThrownBy(() -> decisionService.decideApplication(application.getId(), request(DecisionStatus.REJECTED), officer))
+                .isInstanceOf(ConflictException.class);
+        assertThat(application.getStatus()).isEqualTo(ApplicationStatus.APPROVED);
+    }
+
+    @Test
+    void decideApplication_ShouldLetOnlyOneConcurrentDecisionThrough() throws Exception {
+        // Given both callers have seen the application as PENDING before either decides
+        CyclicBarrier bothChecked = new CyclicBarrier(2);
+        AtomicInteger statusReads = new AtomicInteger();
+        Application contended = spy(application);
+        doAnswer(invocation -> {
+            Object status = invocation.callRealMethod();
+            if (statusReads.getAndIncrement() < 2) {
+                bothChecked.await(5, TimeUnit.SECONDS);
+            }
+            return status;
+        }).when(contended).getStatus();
+        application = contended;
+        when(applicationService.getApplicationById(application.getId(), officer)).thenReturn(application);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // When
+        List<Future<Decision>> results = new ArrayList<>();
+        try {
+            results.add(executor.submit(() -> decisionService.decideApplication(application.getId(), request(DecisionStatus.APPROVED), officer)));
+            results.add(executor.submit(() -> decisionService.decideApplication(application.getId(), request(DecisionStatus.REJECTED), officer)));
+        } finally {
+            executor.shutdown();
+        }
+
+        // Then
+        Decision winner = null;
+        int conflicts = 0;
+        for (Future<Decision> result : results) {
+            try {
+                winner = result.get(5, TimeUnit.SECONDS);
+            } catch (ExecutionException e) {
+                assertThat(e.getCause()).isInstanceOf(ConflictException.class);
+                conflicts++;
+            }
+        }
+        assertThat(conflicts).isEqualTo(1);
+        assertThat(decisionService.findForRestore(application.getId())).isSameAs(winner);
+        assertThat(pipelineStats.getCount(ApplicationStatus.PENDING)).isZero();
+        assertThat(pipelineStats.getDecidedCount()).isEqualTo(1);
+        verify(eventPublisherService, times(1)).publishApplicationEvent(eq("loan.applications"), any(), any());
+    }
+
+    private static DecisionRequestDTO request(DecisionStatus status) {
+        DecisionRequestDTO request = new DecisionRequestDTO();
+        request.setStatus(status);
+        return request;
+    }
+}
@@ -6,6 +6,7 @@ import com.mortgage.mortgageportal.entities.Document;
 import com.mortgage.mortgageportal.entities.User;
 import com.mortgage.mortgageportal.enums.ApplicationStatus;
 import com.mortgage.mortgageportal.enums.UserRole;
+import com.mortgage.mortgageportal.journal.StateJournal;
 import com.mortgage.mortgageportal.service.impl.DocumentServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,6 +29,9 @@ class DocumentServiceTest {
     @Mock
     private ApplicationService applicationService;
 
+    @Mock
+    private EventPublisherService eventPublisherService;
+
     private DocumentServiceImpl documentService;
 
     private User testUser;
@@ -36,7 +40,7 @@ class DocumentServiceTest {
 
     @BeforeEach
     void setUp() {
-        documentService = new DocumentServiceImpl(applicationService);
+        documentService = new DocumentServiceImpl(applicationService, eventPublisherService, StateJournal.NOOP);
         
         testUser = User.builder()
                 .id(UUID.randomUUID())
@@ -83,6 +87,11 @@ class DocumentServiceTest {
         assertThat(result.getUploadedAt()).isNotNull();
 
         verify(applicationService).getApplicationById(testApplication.getId(), testUser);
+        verify(eventPublisherService).publishApplicationEvent(
+                eq("loan.applications"),
+                eq(testApplication.getId().toString()),
+                any()
+        );
     }
 
     @Test
@@ -0,0 +1,191 @@
+package com.mortgage.mortgageportal.service;
+
+import com.mortgage.mortgageportal.dto.UnderwritingRulesDTO;
+import com.mortgage.mortgageportal.entities.Application;
+import com.mortgage.mortgageportal.entities.User;
+import com.mortgage.mortgageportal.enums.ApplicationStatus;
+import com.mortgage.mortgageportal.enums.DecisionStatus;
+import com.mortgage.mortgageportal.enums.UserRole;
+import com.mortgage.mortgageportal.exception.BadRequestException;
+import com.mortgage.mortgageportal.journal.StateJournal;
+import com.mortgage.mortgageportal.rules.ApplicationFacts;
+import com.mortgage.mortgageportal.rules.RuleEngine;
+import com.mortgage.mortgageportal.service.impl.UnderwritingServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UnderwritingServiceTest {
+
+    private static final String NATIONAL_ID = "123456789";
+
+    @Mock
+    private ApplicationService applicationService;
+
+    @Mock
+    private DocumentService documentService;
+
+    @Mock
+    private StateJournal stateJournal;
+
+    private RuleEngine ruleEngine;
+    private UnderwritingServiceImpl underwritingService;
+    private User applicant;
+
+    @BeforeEach
+    void setUp() {
+        ruleEngine = spy(new RuleEngine("120=300000,240=750000,600=1000000", 1, 2, 2, 30, 70));
+        underwritingService = new UnderwritingServiceImpl(applicationService, documentService, ruleEngine, stateJournal);
+        applicant = User.builder()
+                .id(UUID.randomUUID())
+                .email("john@example.com")
+                .nationalId(NATIONAL_ID)
+                .role(UserRole.APPLICANT)
+                .build();
+        lenient().when(documentService.countDocuments(any())).thenReturn(3);
+    }
+
+    @Test
+    void assess_ShouldCountOtherApplicationsUnderSameNationalId() {
+        // Given the history holds the application itself, two other open applications, a rejection and an approval
+        Application application = application(applicant, ApplicationStatus.PENDING);
+        when(applicationService.listApplicationsByNationalId(NATIONAL_ID)).thenReturn(List.of(
+                application,
+                application(applicant, ApplicationStatus.PENDING),
+                application(applicant, ApplicationStatus.PENDING),
+                application(applicant, ApplicationStatus.REJECTED),
+                application(applicant, ApplicationStatus.APPROVED)));
+
+        // When
+        underwritingService.assess(application);
+
+        // Then
+        ArgumentCaptor<ApplicationFacts> facts = ArgumentCaptor.forClass(ApplicationFacts.class);
+        verify(ruleEngine).evaluate(facts.capture());
+        assertThat(facts.getValue().identityVerified()).isTrue();
+        assertThat(facts.getValue().otherOpenApplications()).isEqualTo(2);
+        assertThat(facts.getValue().priorRejections()).isEqualTo(1);
+        assertThat(facts.getValue().documents()).isEqualTo(3);
+        assertThat(application.getRiskScore()).isEqualTo(55);
+        assertThat(application.getSuggestedDecision()).isNull();
+    }
+
+    @Test
+    void assess_ShouldNotLookUpHistoryForPlaceholderNationalId() {
+        // Given
+        User unverified = User.builder()
+                .id(UUID.randomUUID())
+                .email("jane@example.com")
+                .nationalId(User.UNVERIFIED_NATIONAL_ID)
+                .role(UserRole.APPLICANT)
+                .build();
+        Application application = application(unverified, ApplicationStatus.PENDING);
+
+        // When
+        underwritingService.assess(application);
+
+        // Then
+        ArgumentCaptor<ApplicationFacts> facts = ArgumentCaptor.forClass(ApplicationFacts.class);
+        verify(ruleEngine).evaluate(facts.capture());
+        assertThat(facts.getValue().identityVerified()).isFalse();
+        assertThat(facts.getValue().otherOpenApplications()).isZero();
+        assertThat(facts.getValue().priorRejections()).isZero();
+        verify(applicationService, never()).listApplicationsByNationalId(anyString());
+    }
+
+    @Test
+    void assess_ShouldJournalOnlyWhenAssessmentChanges() {
+        // Given
+        Application application = application(applicant, ApplicationStatus.PENDING);
+
+        // When
+        underwritingService.assess(application);
+        underwritingService.assess(application);
+
+        // Then
+        assertThat(application.getRiskScore()).isZero();
+        assertThat(application.getSuggestedDecision()).isEqualTo(DecisionStatus.APPROVED);
+        verify(stateJournal, times(1)).applicationSaved(application);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void rescorePending_ShouldScoreBacklogLargerThanOneSliceAndJournalOnlyChanges() {
+        // Given more than twice the sequential threshold, with every third application already up to date
+        List<Application> pending = new ArrayList<>();
+        List<Application> stale = new ArrayList<>();
+        for (int i = 0; i < 1_200; i++) {
+            Application application = application(applicant, ApplicationStatus.PENDING);
+            if (i % 3 == 0) {
+                application.setRiskScore(0);
+                application.setSuggestedDecision(DecisionStatus.APPROVED);
+            } else {
+                stale.add(application);
+            }
+            pending.add(application);
+        }
+        when(applicationService.listApplications(ApplicationStatus.PENDING, null, null, null)).thenReturn(pending);
+
+        // When
+        int rescored = underwritingService.rescorePending();
+
+        // Then
+        assertThat(rescored).isEqualTo(pending.size());
+        assertThat(pending).allSatisfy(application -> {
+            assertThat(application.getRiskScore()).isZero();
+            assertThat(application.getSuggestedDecision()).isEqualTo(DecisionStatus.APPROVED);
+        });
+        verify(ruleEngine, times(pending.size())).evaluate(any());
+        ArgumentCaptor<Collection<Application>> journaled = ArgumentCaptor.forClass(Collection.class);
+        verify(stateJournal, times(1)).applicationsSaved(journaled.capture());
+        assertThat(journaled.getValue()).containsExactlyInAnyOrderElementsOf(stale);
+    }
+
+    @Test
+    void updateRules_ShouldRejectInvalidBandAndKeepActiveRules() {
+        // Given
+        UnderwritingRulesDTO active = underwritingService.getRules();
+        UnderwritingRulesDTO invalid = UnderwritingRulesDTO.builder()
+                .maxAmountByTerm(Map.of(0, new BigDecimal("1000000")))
+                .maxOpenApplications(1)
+                .maxPriorRejections(2)
+                .minDocuments(2)
+                .approveBelowScore(30)
+                .rejectAtOrAboveScore(70)
+                .build();
+
+        // When / Then
+        assertThatThrownBy(() -> underwritingService.updateRules(invalid))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("Invalid underwriting rules");
+        assertThat(underwritingService.getRules()).isSameAs(active);
+        verifyNoInteractions(applicationService, stateJournal);
+    }
+
+    private static Application application(User user, ApplicationStatus status) {
+        return Application.builder()
+                .id(UUID.randomUUID())
+                .user(user)
+                .status(status)
+                .amount(new BigDecimal("100000"))
+                .loanTermMonths(240)
+                .build();
+    }
+}
@@ -0,0 +1,171 @@
+package com.mortgage.mortgageportal.service;
+
+import com.mortgage.mortgageportal.entities.User;
+import com.mortgage.mortgageportal.enums.UserRole;
+import com.mortgage.mortgageportal.repository.UserRepository;
+import com.mortgage.mortgageportal.service.impl.UserProvisioner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@Timeout(value = 30, threadMode = Timeout.ThreadMode.SEPARATE_THREAD)
+class UserProvisionerTest {
+
+    private static final int FOLLOWERS = 8;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private UserProvisioner userProvisioner;
+
+    // What the users table holds, keyed by email; ids are assigned on first upsert like the database does
+    private final Map<String, User> table = new ConcurrentHashMap<>();
+    private final List<List<Object[]>> batches = new ArrayList<>();
+    private final CountDownLatch firstBatchReleased = new CountDownLatch(1);
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        userProvisioner = new UserProvisioner(jdbcTemplate, userRepository, transactionTemplate);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+        lenient().when(userRepository.findByEmailIn(anyCollection())).thenAnswer(invocation ->
+                ((Collection<String>) invocation.getArgument(0)).stream().map(table::get).toList());
+    }
+
+    @Test
+    void provision_ShouldWriteCallersQueuedDuringAFlushInOneBatch() throws Exception {
+        // Given a leader held inside its own batch
+        upsertHoldingFirstBatch(false);
+        AtomicReference<User> leaderResult = new AtomicReference<>();
+        Thread leader = Thread.ofPlatform().start(() -> leaderResult.set(userProvisioner.provision(candidate("leader@example.com"))));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> batches.size() == 1);
+
+        // When: followers arrive meanwhile, two of them for the same email
+        Map<Integer, User> results = new ConcurrentHashMap<>();
+        List<Thread> followers = new ArrayList<>();
+        for (int i = 0; i < FOLLOWERS; i++) {
+            int n = i;
+            String email = n == FOLLOWERS - 1 ? "applicant0@example.com" : "applicant" + n + "@example.com";
+            followers.add(Thread.ofPlatform().start(() -> results.put(n, userProvisioner.provision(candidate(email)))));
+        }
+        awaitQueued(followers);
+        firstBatchReleased.countDown();
+        leader.join();
+        for (Thread follower : followers) {
+            follower.join();
+        }
+
+        // Then: one batch for the leader and one for every follower, with the duplicate written once
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyList());
+        assertThat(batches.get(1)).hasSize(FOLLOWERS - 1);
+        assertThat(leaderResult.get()).isSameAs(table.get("leader@example.com"));
+        for (int i = 0; i < FOLLOWERS; i++) {
+            User user = results.get(i);
+            assertThat(user.getId()).isNotNull();
+            assertThat(user).isSameAs(table.get(user.getEmail()));
+        }
+        assertThat(results.get(FOLLOWERS - 1)).isSameAs(results.get(0));
+    }
+
+    @Test
+    void provision_ShouldFailEveryCallerInAFailedBatch() throws Exception {
+        // Given a leader held inside a batch that succeeds, and a second batch that fails
+        upsertHoldingFirstBatch(true);
+        Thread leader = Thread.ofPlatform().start(() -> userProvisioner.provision(candidate("leader@example.com")));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> batches.size() == 1);
+
+        // When
+        AtomicInteger failed = new AtomicInteger();
+        List<Thread> followers = new ArrayList<>();
+        for (int i = 0; i < FOLLOWERS; i++) {
+            String email = "applicant" + i + "@example.com";
+            followers.add(Thread.ofPlatform().start(() -> {
+                try {
+                    userProvisioner.provision(candidate(email));
+                } catch (CompletionException e) {
+                    if (e.getCause() instanceof DataAccessResourceFailureException) {
+                        failed.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        awaitQueued(followers);
+        firstBatchReleased.countDown();
+        leader.join();
+        for (Thread follower : followers) {
+            follower.join();
+        }
+
+        // Then
+        assertThat(failed).hasValue(FOLLOWERS);
+        assertThat(table).containsOnlyKeys("leader@example.com");
+    }
+
+    // The first batch blocks until released; later ones go through, or fail when failLaterBatches is set
+    private void upsertHoldingFirstBatch(boolean failLaterBatches) {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            List<Object[]> rows = invocation.getArgument(1);
+            boolean first;
+            synchronized (batches) {
+                batches.add(rows);
+                first = batches.size() == 1;
+            }
+            if (first) {
+                firstBatchReleased.await();
+            } else if (failLaterBatches) {
+                throw new DataAccessResourceFailureException("Connection reset");
+            }
+            for (Object[] row : rows) {
+                String email = (String) row[1];
+                table.putIfAbsent(email, User.builder().id(UUID.randomUUID()).fullName((String) row[0]).email(email)
+                        .nationalId((String) row[2]).role(UserRole.valueOf((String) row[3])).build());
+            }
+            return new int[rows.size()];
+        });
+    }
+
+    // A caller that has queued its candidate parks on its future, since the flush is taken
+    private static void awaitQueued(List<Thread> callers) {
+        await().atMost(5, TimeUnit.SECONDS).until(() -> callers.stream().allMatch(t -> t.getState() == Thread.State.WAITING));
+    }
+
+    private static User candidate(String email) {
+        return User.builder().email(email).fullName(email).nationalId(User.UNVERIFIED_NATIONAL_ID)
+                .role(UserRole.APPLICANT).build();
+    }
+}
@@ -0,0 +1,106 @@
+package com.mortgage.mortgageportal.service;
+
+import com.mortgage.mortgageportal.entities.User;
+import com.mortgage.mortgageportal.enums.UserRole;
+import com.mortgage.mortgageportal.repository.UserRepository;
+import com.mortgage.mortgageportal.service.impl.UserProvisioner;
+import com.mortgage.mortgageportal.service.impl.UserServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserServiceTest {
+
+    private static final String EMAIL = "john@example.com";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserProvisioner userProvisioner;
+
+    private UserServiceImpl userService;
+    private User persisted;
+
+    @BeforeEach
+    void setUp() {
+        userService = new UserServiceImpl(userRepository, userProvisioner, 100, Duration.ofMinutes(10));
+        persisted = User.builder()
+                .id(UUID.randomUUID())
+                .email(EMAIL)
+                .fullName("John Doe")
+                .nationalId("123456789")
+                .role(UserRole.APPLICANT)
+                .build();
+    }
+
+    @Test
+    void getCurrentUser_ShouldServeRepeatLookupsFromCache() {
+        // Given
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(persisted));
+
+        // When
+        User first = userService.getCurrentUser(token("ROLE_APPLICANT"));
+        User second = userService.getCurrentUser(token("ROLE_APPLICANT"));
+
+        // Then
+        assertThat(first).isSameAs(persisted);
+        assertThat(second).isSameAs(persisted);
+        verify(userRepository, times(1)).findByEmail(EMAIL);
+        verifyNoInteractions(userProvisioner);
+    }
+
+    @Test
+    void getCurrentUser_ShouldProvisionFirstSeenUserWithPlaceholderNationalId() {
+        // Given
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.empty());
+        when(userProvisioner.provision(any(User.class))).thenReturn(persisted);
+
+        // When
+        User user = userService.getCurrentUser(token("ROLE_APPLICANT"));
+        userService.getCurrentUser(token("ROLE_APPLICANT"));
+
+        // Then
+        ArgumentCaptor<User> candidate = ArgumentCaptor.forClass(User.class);
+        verify(userProvisioner, times(1)).provision(candidate.capture());
+        assertThat(candidate.getValue().getEmail()).isEqualTo(EMAIL);
+        assertThat(candidate.getValue().getNationalId()).isEqualTo(User.UNVERIFIED_NATIONAL_ID);
+        assertThat(candidate.getValue().getRole()).isEqualTo(UserRole.APPLICANT);
+        assertThat(user).isSameAs(persisted);
+    }
+
+    @Test
+    void getCurrentUser_ShouldTakeRoleFromTokenWithoutChangingCachedUser() {
+        // Given
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(persisted));
+
+        // When
+        User officer = userService.getCurrentUser(token("ROLE_OFFICER"));
+
+        // Then
+        assertThat(officer.getRole()).isEqualTo(UserRole.OFFICER);
+        assertThat(officer.getId()).isEqualTo(persisted.getId());
+        assertThat(persisted.getRole()).isEqualTo(UserRole.APPLICANT);
+        assertThat(userService.getUserCache().getIfPresent(EMAIL)).isSameAs(persisted);
+    }
+
+    private static Authentication token(String authority) {
+        return new UsernamePasswordAuthenticationToken(EMAIL, null, List.of(new SimpleGrantedAuthority(authority)));
+    }
+}
@@ -0,0 +1,125 @@
+package org.springframework.web.servlet.mvc.method.annotation;
+
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Stands in for the servlet container behind a ResponseBodyEmitter in unit tests. The handler contract is package
+ * private, hence the package. Records what was written, can hold writes to play a slow client, and fires the
+ * completion and error callbacks the container would.
+ */
+public class RecordingEmitterHandler implements ResponseBodyEmitter.Handler {
+
+    private final List<String> written = new CopyOnWriteArrayList<>();
+    private final AtomicInteger heldWrites = new AtomicInteger();
+    private volatile CountDownLatch gate;
+    private volatile boolean completed;
+    private volatile Runnable completionCallback = () -> { };
+    private volatile Consumer<Throwable> errorCallback = e -> { };
+
+    private RecordingEmitterHandler() {
+    }
+
+    public static RecordingEmitterHandler attach(ResponseBodyEmitter emitter) throws IOException {
+        RecordingEmitterHandler handler = new RecordingEmitterHandler();
+        emitter.initialize(handler);
+        return handler;
+    }
+
+    public List<String> written() {
+        return written;
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    /** From now on every write blocks until {@link #releaseWrites()}, like a client that stopped reading. */
+    public void holdWrites() {
+        gate = new CountDownLatch(1);
+    }
+
+    public void releaseWrites() {
+        CountDownLatch held = gate;
+        gate = null;
+        if (held != null) {
+            held.countDown();
+        }
+    }
+
+    /** Writes currently blocked by {@link #holdWrites()}. */
+    public int heldWrites() {
+        return heldWrites.get();
+    }
+
+    /** The client disconnected or the async request finished. */
+    public void fireCompletion() {
+        completionCallback.run();
+    }
+
+    /** The container reported an I/O error on the response. */
+    public void fireError(Throwable error) {
+        errorCallback.accept(error);
+    }
+
+    @Override
+    public void send(Object data, MediaType mediaType) throws IOException {
+        await();
+        written.add(String.valueOf(data));
+    }
+
+    @Override
+    public void send(Set<ResponseBodyEmitter.DataWithMediaType> items) throws IOException {
+        await();
+        StringBuilder frame = new StringBuilder();
+        items.forEach(item -> frame.append(item.getData()));
+        written.add(frame.toString());
+    }
+
+    @Override
+    public void complete() {
+        completed = true;
+    }
+
+    @Override
+    public void completeWithError(Throwable failure) {
+        completed = true;
+    }
+
+    @Override
+    public void onTimeout(Runnable callback) {
+    }
+
+    @Override
+    public void onError(Consumer<Throwable> callback) {
+        errorCallback = callback;
+    }
+
+    @Override
+    public void onCompletion(Runnable callback) {
+        completionCallback = callback;
+    }
+
+    private void await() throws IOException {
+        CountDownLatch held = gate;
+        if (held == null) {
+            return;
+        }
+        heldWrites.incrementAndGet();
+        try {
+            held.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } finally {
+            heldWrites.decrementAndGet();
+        }
+    }
+}